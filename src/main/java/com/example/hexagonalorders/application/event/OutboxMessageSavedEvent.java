@@ -0,0 +1,11 @@
+package com.example.hexagonalorders.application.event;
+
+import java.util.UUID;
+
+/**
+ * Internal application event signalling that an integration event was written to the outbox.
+ * Listeners use it to dispatch the message as soon as the surrounding transaction commits
+ * instead of waiting for the next outbox poll. It is never published to external systems.
+ */
+public record OutboxMessageSavedEvent(UUID messageId, String aggregateType, String eventType) {
+}
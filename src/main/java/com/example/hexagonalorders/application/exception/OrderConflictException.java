@@ -0,0 +1,13 @@
+package com.example.hexagonalorders.application.exception;
+
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+
+/**
+ * Exception thrown when an order could not be changed because it was modified concurrently.
+ */
+public class OrderConflictException extends RuntimeException {
+    
+    public OrderConflictException(OrderNumber orderNumber, Throwable cause) {
+        super("Order was modified concurrently: " + orderNumber.value(), cause);
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.hexagonalorders.application.handler;
 
 import com.example.hexagonalorders.application.event.OrderConfirmedIntegrationEvent;
+import com.example.hexagonalorders.application.event.OutboxMessageSavedEvent;
 import com.example.hexagonalorders.domain.event.DomainEvent;
 import com.example.hexagonalorders.domain.event.OrderConfirmedEvent;
+import com.example.hexagonalorders.domain.model.EncodedPayload;
 import com.example.hexagonalorders.domain.model.OutboxMessage;
 import com.example.hexagonalorders.domain.port.out.OutboxRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.hexagonalorders.domain.port.out.PayloadCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -24,7 +27,8 @@ import java.util.UUID;
 public class DomainEventHandler {
     
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final PayloadCodec payloadCodec;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Handles OrderConfirmedEvent by creating and persisting the corresponding integration event.
@@ -67,6 +71,9 @@ public class DomainEventHandler {
     
     /**
      * Persists an integration event to the outbox.
+     * The event is serialized by the {@link PayloadCodec} straight to the bytes that are stored
+     * and later handed to the broker. An {@link OutboxMessageSavedEvent} is published so that the message can be
+     * dispatched right after the surrounding transaction commits.
      * 
      * @param event the integration event to persist
      * @param aggregateType the type of aggregate that produced the event
@@ -74,21 +81,23 @@ public class DomainEventHandler {
      */
     private void persistToOutbox(Object event, String aggregateType, String aggregateId) {
         try {
-            String payload = objectMapper.writeValueAsString(event);
+            EncodedPayload payload = payloadCodec.encode(event);
             String eventType = event.getClass().getSimpleName();
             
             // Generate a deterministic UUID based on the aggregateId string
             // This ensures the same aggregate always gets the same UUID
             UUID uuid = UUID.nameUUIDFromBytes(aggregateId.getBytes());
             
-            OutboxMessage outboxMessage = OutboxMessage.createPendingMessage(
+            OutboxMessage outboxMessage = OutboxMessage.createPending(
                 aggregateType,
                 uuid,
                 eventType,
                 payload
             );
             
-            outboxRepository.save(outboxMessage);
+            OutboxMessage savedMessage = outboxRepository.save(outboxMessage);
+            eventPublisher.publishEvent(
+                new OutboxMessageSavedEvent(savedMessage.id(), aggregateType, eventType));
             log.debug("Persisted integration event to outbox: {} for aggregate: {}", 
                      eventType, aggregateId);
         } catch (Exception e) {
@@ -0,0 +1,313 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.application.exception.OrderNotFoundException;
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderPage;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import com.example.hexagonalorders.domain.service.OrderValidationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Order use cases that commit concurrent createOrder and confirmOrder calls together.
+ * Each call is queued and its caller waits for the outcome. A single committer thread takes the
+ * queued calls in groups, closing a group when it holds maxGroupSize calls or maxDelayMs after
+ * its first call arrived, and runs the whole group in one transaction, so many writes share
+ * one commit. The confirmations of a group are applied by one set-based update through
+ * {@link OrderUseCase#confirmOrders(Collection)}.
+ *
+ * Failures are isolated per call: orders are validated before they are queued, a confirmation
+ * of a missing or non-PENDING order fails only its caller, and if the group transaction fails
+ * anyway, its calls are run again one per transaction. The queue is bounded; when it is full,
+ * callers block until the committer catches up.
+ *
+ * Calls made inside a transaction, and all other use cases, go straight to the delegate.
+ *
+ * Metrics:
+ * - orders.commit.group.size: writes committed per group transaction
+ * - orders.commit.queue.depth: writes waiting for the committer
+ */
+@Slf4j
+public class GroupCommitOrderService implements OrderUseCase {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final OrderUseCase delegate;
+    private final OrderValidationService orderValidationService;
+    private final TransactionOperations transactionOperations;
+    private final int maxGroupSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Write> queue;
+    private final DistributionSummary groupSize;
+    private final Thread committer;
+    private volatile boolean stopped;
+
+    /**
+     * @param delegate runs the writes; its createOrder and confirmOrders must join the group transaction
+     * @param transactionOperations runs each group in its own transaction
+     * @param maxGroupSize how many writes are committed together at most
+     * @param maxDelayMs how long a group waits for more writes after its first one arrived
+     * @param queueCapacity how many writes may wait for the committer before callers block
+     */
+    public GroupCommitOrderService(OrderUseCase delegate,
+                                   OrderValidationService orderValidationService,
+                                   TransactionOperations transactionOperations,
+                                   MeterRegistry meterRegistry,
+                                   int maxGroupSize,
+                                   long maxDelayMs,
+                                   int queueCapacity) {
+        if (maxGroupSize < 1) {
+            throw new IllegalArgumentException("Group size must be at least 1");
+        }
+        if (maxDelayMs < 0) {
+            throw new IllegalArgumentException("Group delay must not be negative");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Group commit queue capacity must be at least 1");
+        }
+        this.delegate = delegate;
+        this.orderValidationService = orderValidationService;
+        this.transactionOperations = transactionOperations;
+        this.maxGroupSize = maxGroupSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.groupSize = DistributionSummary.builder("orders.commit.group.size")
+            .description("Order writes committed in one group transaction")
+            .register(meterRegistry);
+        Gauge.builder("orders.commit.queue.depth", queue, Collection::size)
+            .description("Order writes waiting for the group committer")
+            .register(meterRegistry);
+        this.committer = new Thread(this::commitGroups, "order-group-commit");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public Order createOrder(Order order) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.createOrder(order);
+        }
+        // An invalid order never joins a group, so it cannot make the group fail
+        orderValidationService.validateOrder(order);
+        Create create = new Create(order, new CompletableFuture<>());
+        enqueue(create);
+        return await(create.result());
+    }
+
+    @Override
+    public void confirmOrder(OrderNumber orderNumber) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            delegate.confirmOrder(orderNumber);
+            return;
+        }
+        Confirm confirm = new Confirm(orderNumber, new CompletableFuture<>());
+        enqueue(confirm);
+        await(confirm.result());
+    }
+
+    @Override
+    public List<OrderCreationResult> createOrders(List<Order> orders) {
+        return delegate.createOrders(orders);
+    }
+
+    @Override
+    public Optional<Order> getOrder(OrderNumber orderNumber) {
+        return delegate.getOrder(orderNumber);
+    }
+
+    @Override
+    public OrderPage getOrders(OrderCursor after, int limit) {
+        return delegate.getOrders(after, limit);
+    }
+
+    @Override
+    public void forEachOrder(Consumer<Order> action) {
+        delegate.forEachOrder(action);
+    }
+
+    @Override
+    public Map<OrderNumber, StatusTransition> confirmOrders(Collection<OrderNumber> orderNumbers) {
+        return delegate.confirmOrders(orderNumbers);
+    }
+
+    @Override
+    public void deleteOrder(OrderNumber orderNumber) {
+        delegate.deleteOrder(orderNumber);
+    }
+
+    /**
+     * Stops taking new writes, commits the writes already queued and stops the committer.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopped = true;
+        committer.join(TimeUnit.SECONDS.toMillis(5));
+        List<Write> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(write -> write.result().completeExceptionally(
+            new RejectedExecutionException("Group commit was shut down before the write was committed")));
+    }
+
+    private void enqueue(Write write) {
+        if (stopped) {
+            throw new RejectedExecutionException("Group commit is shut down");
+        }
+        try {
+            // Backpressure: block the caller until the committer has room
+            queue.put(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to queue an order write", e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an order write; it may still be committed", e);
+        } catch (ExecutionException e) {
+            // Rethrow what the write threw, so callers see the same exceptions as without group commit
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void commitGroups() {
+        List<Write> group = new ArrayList<>(maxGroupSize);
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                Write first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (group.size() < maxGroupSize) {
+                    if (queue.drainTo(group, maxGroupSize - group.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Write next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(write -> write.result().completeExceptionally(e));
+                return;
+            } catch (RuntimeException e) {
+                // Never let the committer die; every write of the group still gets an outcome
+                log.error("Group commit of {} order writes failed unexpectedly", group.size(), e);
+                group.forEach(write -> write.result().completeExceptionally(e));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<Write> group) {
+        groupSize.record(group.size());
+        List<Create> creates = new ArrayList<>();
+        List<Confirm> confirms = new ArrayList<>();
+        for (Write write : group) {
+            if (write instanceof Create create) {
+                creates.add(create);
+            } else {
+                confirms.add((Confirm) write);
+            }
+        }
+
+        List<Order> created = new ArrayList<>(creates.size());
+        Map<OrderNumber, StatusTransition> transitions;
+        try {
+            transitions = transactionOperations.execute(status -> {
+                creates.forEach(create -> created.add(delegate.createOrder(create.order())));
+                return confirms.isEmpty()
+                    ? Map.of()
+                    : delegate.confirmOrders(confirms.stream().map(Confirm::orderNumber).toList());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Committing a group of {} order writes failed, committing them one by one", group.size(), e);
+            group.forEach(this::commitAlone);
+            return;
+        }
+
+        for (int i = 0; i < creates.size(); i++) {
+            creates.get(i).result().complete(created.get(i));
+        }
+        Set<OrderNumber> seen = new HashSet<>();
+        for (Confirm confirm : confirms) {
+            StatusTransition transition = transitions.get(confirm.orderNumber());
+            // Of several confirmations of one order, only the first finds it PENDING, as if they ran one after another
+            if (!seen.add(confirm.orderNumber()) && transition == StatusTransition.APPLIED) {
+                transition = StatusTransition.INVALID_STATE;
+            }
+            switch (transition) {
+                case APPLIED -> confirm.result().complete(null);
+                case NOT_FOUND -> confirm.result().completeExceptionally(new OrderNotFoundException(confirm.orderNumber()));
+                case INVALID_STATE -> confirm.result().completeExceptionally(OrderService.notPending(confirm.orderNumber()));
+            }
+        }
+    }
+
+    private void commitAlone(Write write) {
+        try {
+            if (write instanceof Create create) {
+                create.result().complete(delegate.createOrder(create.order()));
+            } else {
+                Confirm confirm = (Confirm) write;
+                delegate.confirmOrder(confirm.orderNumber());
+                confirm.result().complete(null);
+            }
+        } catch (RuntimeException e) {
+            write.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A queued write and the future its caller waits on.
+     */
+    private interface Write {
+        CompletableFuture<?> result();
+    }
+
+    private record Create(Order order, CompletableFuture<Order> result) implements Write {
+    }
+
+    private record Confirm(OrderNumber orderNumber, CompletableFuture<Void> result) implements Write {
+    }
+}
@@ -1,20 +1,37 @@
 package com.example.hexagonalorders.application.service;
 
+import com.example.hexagonalorders.application.exception.OrderConflictException;
 import com.example.hexagonalorders.application.exception.OrderNotFoundException;
 import com.example.hexagonalorders.domain.event.DomainEvent;
+import com.example.hexagonalorders.domain.event.OrderConfirmedEvent;
 import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderPage;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 import com.example.hexagonalorders.domain.port.in.OrderUseCase;
 import com.example.hexagonalorders.domain.port.out.OrderNumberGenerator;
 import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
 import com.example.hexagonalorders.domain.service.OrderValidationService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Application service implementing the order-related use cases.
@@ -25,12 +42,49 @@ import java.util.Optional;
  * - Managing transactions and use case flow
  */
 @Slf4j
-@RequiredArgsConstructor
 public class OrderService implements OrderUseCase {
     private final OrderRepository orderRepository;
     private final OrderNumberGenerator orderNumberGenerator;
     private final OrderValidationService orderValidationService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int maxConflictRetries;
+    private final int batchChunkSize;
+
+    public OrderService(OrderRepository orderRepository,
+                        OrderNumberGenerator orderNumberGenerator,
+                        OrderValidationService orderValidationService,
+                        ApplicationEventPublisher eventPublisher) {
+        this(orderRepository, orderNumberGenerator, orderValidationService, eventPublisher,
+            TransactionOperations.withoutTransaction(), 0, 100);
+    }
+
+    /**
+     * @param transactionOperations runs each attempt of an update, and each chunk of a batch, in its own transaction
+     * @param maxConflictRetries how many times an update that lost an optimistic locking race is re-run
+     * @param batchChunkSize how many orders of a batch are created per transaction
+     */
+    public OrderService(OrderRepository orderRepository,
+                        OrderNumberGenerator orderNumberGenerator,
+                        OrderValidationService orderValidationService,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionOperations transactionOperations,
+                        int maxConflictRetries,
+                        int batchChunkSize) {
+        if (maxConflictRetries < 0) {
+            throw new IllegalArgumentException("Conflict retries must not be negative");
+        }
+        if (batchChunkSize < 1) {
+            throw new IllegalArgumentException("Batch chunk size must be at least 1");
+        }
+        this.orderRepository = orderRepository;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.orderValidationService = orderValidationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.maxConflictRetries = maxConflictRetries;
+        this.batchChunkSize = batchChunkSize;
+    }
 
     @Override
     @Transactional
@@ -38,7 +92,71 @@ public class OrderService implements OrderUseCase {
         // Validate the order using the domain service
         orderValidationService.validateOrder(order);
         
-        OrderNumber orderNumber = orderNumberGenerator.generate();
+        return saveNew(order, orderNumberGenerator.generate());
+    }
+
+    /**
+     * Creates the orders in chunks of batchChunkSize, each in its own transaction, so the inserts
+     * of a chunk are sent to the database in JDBC batches. If a chunk fails, its orders are
+     * created again one per transaction, so only the orders that fail on their own are reported
+     * as failed. Must not be called inside a transaction, which a failed chunk would mark for rollback.
+     * 
+     * @throws IllegalStateException if a transaction is active
+     */
+    @Override
+    public List<OrderCreationResult> createOrders(List<Order> orders) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Orders of a batch are created in transactions of their own, "
+                + "createOrders must not be called inside a transaction");
+        }
+        OrderCreationResult[] results = new OrderCreationResult[orders.size()];
+        List<Integer> valid = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            try {
+                orderValidationService.validateOrder(orders.get(i));
+                valid.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = OrderCreationResult.failed(e.getMessage());
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += batchChunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + batchChunkSize, valid.size()));
+            // Numbers are kept when a chunk is retried one order at a time
+            Map<Integer, OrderNumber> numbers = new HashMap<>();
+            chunk.forEach(i -> numbers.put(i, orderNumberGenerator.generate()));
+            try {
+                List<Order> saved = transactionOperations.execute(status -> chunk.stream()
+                        .map(i -> saveNew(orders.get(i), numbers.get(i)))
+                        .collect(Collectors.toList()));
+                for (int j = 0; j < chunk.size(); j++) {
+                    results[chunk.get(j)] = OrderCreationResult.created(saved.get(j));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Creating a chunk of {} orders failed, creating them one by one", chunk.size(), e);
+                for (Integer i : chunk) {
+                    results[i] = createAlone(orders.get(i), numbers.get(i));
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private OrderCreationResult createAlone(Order order, OrderNumber orderNumber) {
+        try {
+            return OrderCreationResult.created(transactionOperations.execute(status -> saveNew(order, orderNumber)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return OrderCreationResult.failed(e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Creating order {} failed", orderNumber.value(), e);
+            return OrderCreationResult.failed("Order could not be stored");
+        }
+    }
+
+    /**
+     * Numbers and saves a new order, then publishes its domain events.
+     */
+    private Order saveNew(Order order, OrderNumber orderNumber) {
         Order orderWithNumber = new Order(
             orderNumber,
             order.getCustomerId(),
@@ -62,43 +180,99 @@ public class OrderService implements OrderUseCase {
     }
 
     @Override
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    @Transactional(readOnly = true)
+    public OrderPage getOrders(OrderCursor after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be at least 1");
+        }
+        // Fetch one extra order to find out whether there is a next page
+        List<Order> orders = orderRepository.findPage(after, limit + 1);
+        if (orders.size() <= limit) {
+            return new OrderPage(orders, null);
+        }
+        List<Order> page = orders.subList(0, limit);
+        return new OrderPage(page, OrderCursor.of(page.get(limit - 1)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOrder(Consumer<Order> action) {
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            orders.forEach(action);
+        }
     }
 
     @Override
     @Transactional
-    public Order confirmOrder(OrderNumber orderNumber) {
-        Optional<Order> orderOpt = orderRepository.findByOrderNumber(orderNumber);
-        if (orderOpt.isEmpty()) {
-            throw new OrderNotFoundException(orderNumber);
+    public void confirmOrder(OrderNumber orderNumber) {
+        // The PENDING -> CONFIRMED rule of Order.confirm is applied by a conditional update,
+        // so the order and its items are never loaded
+        switch (orderRepository.confirmIfPending(orderNumber)) {
+            case NOT_FOUND -> throw new OrderNotFoundException(orderNumber);
+            case INVALID_STATE -> throw notPending(orderNumber);
+            case APPLIED -> {
+                // Published in the same transaction, so the outbox row commits with the status change
+                log.debug("📤 ORDER SERVICE: Publishing OrderConfirmedEvent for order: {}", orderNumber.value());
+                eventPublisher.publishEvent(new OrderConfirmedEvent(orderNumber));
+            }
         }
-        
-        Order order = orderOpt.get();
-        
-        // Confirm the order (this will raise the OrderConfirmedEvent)
-        order.confirm(order.getId());
-        
-        // Save the updated order
-        Order savedOrder = orderRepository.save(order);
-        
-        // Process domain events - publish internally
-        // The DomainEventHandler will automatically handle integration event mapping
-        publishDomainEvents(order, orderNumber.value());
-        
-        return savedOrder;
     }
 
+    /**
+     * Confirms the orders with a locking read and a single conditional update, then publishes one
+     * OrderConfirmedEvent per confirmed order in the same transaction. The outbox rows of those
+     * events are inserted in JDBC batches when the transaction is flushed.
+     */
     @Override
     @Transactional
+    public Map<OrderNumber, StatusTransition> confirmOrders(Collection<OrderNumber> orderNumbers) {
+        Map<OrderNumber, StatusTransition> transitions = orderRepository.confirmAllIfPending(orderNumbers);
+        transitions.forEach((orderNumber, transition) -> {
+            if (transition == StatusTransition.APPLIED) {
+                eventPublisher.publishEvent(new OrderConfirmedEvent(orderNumber));
+            }
+        });
+        return transitions;
+    }
+
+    static IllegalStateException notPending(OrderNumber orderNumber) {
+        return new IllegalStateException("Order can only be confirmed if it is in PENDING status: " + orderNumber.value());
+    }
+
+    @Override
     public void deleteOrder(OrderNumber orderNumber) {
-        orderRepository.deleteByOrderNumber(orderNumber);
+        withConflictRetry(orderNumber, () -> {
+            orderRepository.deleteByOrderNumber(orderNumber);
+            return null;
+        });
+    }
+
+    /**
+     * Runs an update of an existing order in its own transaction, and runs it again, re-reading
+     * the order, when it loses an optimistic locking race with a concurrent update.
+     * Within a caller's transaction the update is not retried, because that transaction is
+     * already marked for rollback.
+     * 
+     * @throws OrderConflictException if the update still conflicts after the last retry
+     */
+    private <T> T withConflictRetry(OrderNumber orderNumber, Supplier<T> update) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxConflictRetries || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw new OrderConflictException(orderNumber, e);
+                }
+                log.debug("Concurrent update of order {}, retrying ({}/{})",
+                         orderNumber.value(), attempt + 1, maxConflictRetries);
+            }
+        }
     }
     
     /**
      * Publishes domain events from an order and clears them afterward.
      * This method handles the common logic for publishing domain events
-     * that is used in both createOrder and confirmOrder methods.
+     * raised by an order aggregate, as in createOrder.
      * 
      * @param order the order containing domain events to publish
      * @param orderNumberValue the order number value for logging purposes
@@ -4,11 +4,16 @@ import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 
 /**
  * Event raised when an order is confirmed.
+ * The order ID is null when the order was confirmed by number without being loaded.
  */
 public class OrderConfirmedEvent extends DomainEvent {
     private final Long orderId;
     private final OrderNumber orderNumber;
 
+    public OrderConfirmedEvent(OrderNumber orderNumber) {
+        this(null, orderNumber);
+    }
+
     public OrderConfirmedEvent(Long orderId, OrderNumber orderNumber) {
         super();
         this.orderId = orderId;
@@ -0,0 +1,94 @@
+package com.example.hexagonalorders.domain.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The serialized form of an integration event as stored in the outbox and handed to the broker.
+ * The bytes are kept exactly as produced by the serializer, together with the headers needed
+ * to read them back: the content type (e.g. application/json) and the content encoding
+ * (identity, or gzip when the bytes are compressed).
+ * 
+ * @param data the serialized bytes
+ * @param contentType the media type of the uncompressed content
+ * @param contentEncoding the compression applied to the content
+ */
+public record EncodedPayload(
+    byte[] data,
+    String contentType,
+    String contentEncoding
+) {
+    public static final String JSON = "application/json";
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+
+    public EncodedPayload {
+        Objects.requireNonNull(data, "data");
+        Objects.requireNonNull(contentType, "contentType");
+        Objects.requireNonNull(contentEncoding, "contentEncoding");
+    }
+
+    /**
+     * Creates an uncompressed JSON payload from its text.
+     */
+    public static EncodedPayload json(String json) {
+        return new EncodedPayload(json.getBytes(StandardCharsets.UTF_8), JSON, IDENTITY);
+    }
+
+    /**
+     * Returns whether the bytes are compressed.
+     */
+    public boolean isCompressed() {
+        return GZIP.equals(contentEncoding);
+    }
+
+    /**
+     * Returns the uncompressed content.
+     */
+    public byte[] content() {
+        if (!isCompressed()) {
+            return data;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress payload", e);
+        }
+    }
+
+    /**
+     * Returns the content as text. Only textual (JSON) payloads have a text form.
+     * 
+     * @throws IllegalStateException if the content type is binary
+     */
+    public String text() {
+        if (!JSON.equals(contentType)) {
+            throw new IllegalStateException("Payload of type " + contentType + " has no text form");
+        }
+        return new String(content(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncodedPayload other)) return false;
+        return Arrays.equals(data, other.data)
+            && Objects.equals(contentType, other.contentType)
+            && Objects.equals(contentEncoding, other.contentEncoding);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(contentType, contentEncoding) + Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedPayload[" + contentType + ", " + contentEncoding + ", " + data.length + " bytes]";
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
  * - A creation date
  * - A list of order items
  * - A list of domain events
+ * - The version it was loaded at, used to detect concurrent modifications
  */
 public class Order {
     private final Long id;
@@ -32,9 +33,20 @@ public class Order {
     private final List<OrderItem> items;
     private final ShippingAddress shippingAddress;
     private OrderStatus status;
+    private final Long version;
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     public Order(Long id, OrderNumber orderNumber, String customerId, LocalDateTime orderDate, List<OrderItem> items, ShippingAddress shippingAddress, OrderStatus status) {
+        this(id, orderNumber, customerId, orderDate, items, shippingAddress, status, null);
+    }
+
+    /**
+     * Reconstructs an order together with the version it was stored at. Saving the order
+     * fails if it has been modified by someone else since that version was read.
+     * 
+     * @param version the stored version, or null if unknown
+     */
+    public Order(Long id, OrderNumber orderNumber, String customerId, LocalDateTime orderDate, List<OrderItem> items, ShippingAddress shippingAddress, OrderStatus status, Long version) {
         // Allow null orderNumber for new orders (when id is null), but require it for persisted orders
         if (id != null && orderNumber == null) {
             throw new IllegalArgumentException("Order number cannot be null for persisted orders");
@@ -61,6 +73,7 @@ public class Order {
         this.items = items;
         this.shippingAddress = shippingAddress;
         this.status = status;
+        this.version = version;
         // Only add OrderCreatedEvent for NEW orders (when id is null)
         // This prevents adding OrderCreatedEvent when reconstructing from database
         if (id == null && orderNumber != null) {
@@ -104,6 +117,10 @@ public class Order {
         return status;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
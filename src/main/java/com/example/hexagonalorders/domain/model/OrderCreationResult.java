@@ -0,0 +1,22 @@
+package com.example.hexagonalorders.domain.model;
+
+/**
+ * Outcome of creating one order of a batch.
+ * 
+ * @param order the created order, or null if it was not created
+ * @param error why the order was not created, or null if it was
+ */
+public record OrderCreationResult(Order order, String error) {
+
+    public static OrderCreationResult created(Order order) {
+        return new OrderCreationResult(order, null);
+    }
+
+    public static OrderCreationResult failed(String error) {
+        return new OrderCreationResult(null, error);
+    }
+
+    public boolean isCreated() {
+        return order != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.hexagonalorders.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Position in the listing of orders, which is sorted by order date and then by ID.
+ * A page that starts after a cursor contains the orders that sort strictly after it.
+ * 
+ * @param orderDate the order date of the last order already seen
+ * @param id the ID of the last order already seen
+ */
+public record OrderCursor(LocalDateTime orderDate, Long id) {
+
+    public OrderCursor {
+        Objects.requireNonNull(orderDate, "orderDate must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * Returns the cursor positioned at the given order.
+     */
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hexagonalorders.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of the order listing.
+ * 
+ * @param orders the orders of the page, sorted by order date and then by ID
+ * @param next the cursor to fetch the following page from, or null if this is the last page
+ */
+public record OrderPage(List<Order> orders, OrderCursor next) {
+
+    public OrderPage {
+        orders = List.copyOf(orders);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
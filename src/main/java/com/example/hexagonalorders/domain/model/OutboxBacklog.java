@@ -0,0 +1,20 @@
+package com.example.hexagonalorders.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Summary of the undelivered outbox messages of one aggregate type, event type and status.
+ * 
+ * @param aggregateType the type of aggregate the messages belong to
+ * @param eventType the type of event
+ * @param status the status of the messages
+ * @param count the number of messages
+ * @param oldestCreatedAt when the oldest of the messages was created
+ */
+public record OutboxBacklog(
+    String aggregateType,
+    String eventType,
+    OutboxStatus status,
+    long count,
+    Instant oldestCreatedAt
+) {}
@@ -7,19 +7,45 @@ import java.util.UUID;
  * Domain model representing an outbox message.
  * This is a pure domain object with no infrastructure dependencies.
  * It represents a message in the outbox pattern for reliable event publishing.
+ * 
+ * Delivery bookkeeping is carried alongside the event data: the number of failed
+ * delivery attempts, the earliest time the next attempt is due and the last error.
+ * 
+ * The event itself is held as an {@link EncodedPayload}, i.e. the serialized bytes with
+ * their content type and encoding; {@link #payload()} returns its text form.
  */
 public record OutboxMessage(
     UUID id,
     String aggregateType,
     UUID aggregateId,
     String eventType,
-    String payload,
+    EncodedPayload body,
     OutboxStatus status,
     Instant createdAt,
-    Instant processedAt
+    Instant processedAt,
+    int attempts,
+    Instant nextAttemptAt,
+    String lastError
 ) {
     /**
-     * Creates a new pending outbox message.
+     * Creates an outbox message with a JSON payload that has not been attempted yet and is
+     * due at creation time.
+     */
+    public OutboxMessage(
+            UUID id,
+            String aggregateType,
+            UUID aggregateId,
+            String eventType,
+            String payload,
+            OutboxStatus status,
+            Instant createdAt,
+            Instant processedAt) {
+        this(id, aggregateType, aggregateId, eventType, payload == null ? null : EncodedPayload.json(payload),
+                status, createdAt, processedAt, 0, createdAt, null);
+    }
+
+    /**
+     * Creates a new pending outbox message with a JSON payload.
      */
     public static OutboxMessage createPendingMessage(
             String aggregateType,
@@ -38,6 +64,39 @@ public record OutboxMessage(
         );
     }
 
+    /**
+     * Creates a new pending outbox message with an already serialized payload.
+     */
+    public static OutboxMessage createPending(
+            String aggregateType,
+            UUID aggregateId,
+            String eventType,
+            EncodedPayload body) {
+        Instant now = Instant.now();
+        return new OutboxMessage(
+                UUID.randomUUID(),
+                aggregateType,
+                aggregateId,
+                eventType,
+                body,
+                OutboxStatus.PENDING,
+                now,
+                null,
+                0,
+                now,
+                null
+        );
+    }
+
+    /**
+     * Returns the payload as text.
+     * 
+     * @throws IllegalStateException if the payload is in a binary format
+     */
+    public String payload() {
+        return body == null ? null : body.text();
+    }
+
     /**
      * Returns a new instance with status set to PROCESSED and processedAt set to now.
      */
@@ -47,10 +106,13 @@ public record OutboxMessage(
                 this.aggregateType,
                 this.aggregateId,
                 this.eventType,
-                this.payload,
+                this.body,
                 OutboxStatus.PROCESSED,
                 this.createdAt,
-                Instant.now()
+                Instant.now(),
+                this.attempts,
+                this.nextAttemptAt,
+                this.lastError
         );
     }
 
@@ -63,10 +125,13 @@ public record OutboxMessage(
                 this.aggregateType,
                 this.aggregateId,
                 this.eventType,
-                this.payload,
+                this.body,
                 OutboxStatus.FAILED,
                 this.createdAt,
-                Instant.now()
+                Instant.now(),
+                this.attempts,
+                this.nextAttemptAt,
+                this.lastError
         );
     }
-} 
\ No newline at end of file
+}
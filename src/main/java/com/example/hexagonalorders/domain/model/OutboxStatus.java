@@ -4,7 +4,12 @@ package com.example.hexagonalorders.domain.model;
  * Represents the status of an outbox message.
  */
 public enum OutboxStatus {
+    /** Waiting to be published, possibly after an earlier failed attempt */
     PENDING,
+    /** Claimed by a processor that holds a time-limited lease on the message */
+    IN_FLIGHT,
     PROCESSED,
-    FAILED
-} 
\ No newline at end of file
+    FAILED,
+    /** Delivery failed on every allowed attempt; the message needs manual attention */
+    DEAD_LETTER
+}
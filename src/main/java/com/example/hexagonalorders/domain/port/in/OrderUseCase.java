@@ -1,10 +1,17 @@
 package com.example.hexagonalorders.domain.port.in;
 
 import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderPage;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Input port defining the contract for order operations.
@@ -19,6 +26,14 @@ public interface OrderUseCase {
      */
     Order createOrder(Order order);
 
+    /**
+     * Creates a batch of orders. Orders are created independently of each other, so an order
+     * that is invalid or cannot be stored does not keep the others from being created
+     * @param orders the orders to create
+     * @return one result per order, in the order of the given orders
+     */
+    List<OrderCreationResult> createOrders(List<Order> orders);
+
     /**
      * Retrieves an order by its order number
      * @param orderNumber the order number
@@ -27,17 +42,36 @@ public interface OrderUseCase {
     Optional<Order> getOrder(OrderNumber orderNumber);
 
     /**
-     * Retrieves all orders
-     * @return list of all orders
+     * Retrieves a page of orders sorted by order date and then by ID
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of orders on the page
+     * @return the page, with the cursor of the next page if there are more orders
      */
-    List<Order> getAllOrders();
+    OrderPage getOrders(OrderCursor after, int limit);
+
+    /**
+     * Passes every order, sorted by order date and then by ID, to the given action
+     * without loading them all into memory at once
+     * @param action the action to perform for each order
+     */
+    void forEachOrder(Consumer<Order> action);
 
     /**
      * Confirms an order, changing its status from PENDING to CONFIRMED
      * @param orderNumber the order number
-     * @return the confirmed order
+     * @throws com.example.hexagonalorders.application.exception.OrderNotFoundException if the order does not exist
+     * @throws IllegalStateException if the order is not in PENDING status
+     */
+    void confirmOrder(OrderNumber orderNumber);
+
+    /**
+     * Confirms a batch of orders, changing the status of each one that is PENDING to CONFIRMED.
+     * Orders that do not exist or are not PENDING are left unchanged and do not keep the
+     * others from being confirmed
+     * @param orderNumbers the order numbers
+     * @return the outcome for each distinct order number, in the order they were given
      */
-    Order confirmOrder(OrderNumber orderNumber);
+    Map<OrderNumber, StatusTransition> confirmOrders(Collection<OrderNumber> orderNumbers);
 
     /**
      * Deletes an order by its order number
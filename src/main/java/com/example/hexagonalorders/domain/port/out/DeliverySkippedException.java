@@ -0,0 +1,12 @@
+package com.example.hexagonalorders.domain.port.out;
+
+/**
+ * Reports that a message was not published because an earlier message with the same key
+ * failed. The message itself was never attempted, so it does not count as a failed attempt.
+ */
+public class DeliverySkippedException extends IllegalStateException {
+
+    public DeliverySkippedException(String key) {
+        super("Not attempted because an earlier message with key " + key + " failed");
+    }
+}
@@ -1,5 +1,13 @@
 package com.example.hexagonalorders.domain.port.out;
 
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Output port defining the contract for publishing messages to external systems.
  * This interface is part of the domain layer and defines how
@@ -8,10 +16,70 @@ package com.example.hexagonalorders.domain.port.out;
 public interface MessagePublisher {
     
     /**
-     * Publishes a message to the specified topic
+     * Publishes a JSON message to the specified topic
+     * 
+     * @param topic the destination topic
+     * @param payload the message payload as JSON text
+     */
+    default void publish(String topic, String payload) {
+        publish(topic, EncodedPayload.json(payload));
+    }
+
+    /**
+     * Publishes a serialized message to the specified topic.
+     * Adapters hand the bytes and their content type and encoding to the broker unchanged,
+     * whatever the format, since payloads may be binary (Smile, CBOR) or compressed.
+     * 
+     * @param topic the destination topic
+     * @param payload the serialized message
+     */
+    void publish(String topic, EncodedPayload payload);
+
+    /**
+     * Publishes a message to the specified topic without waiting for the broker.
+     * Adapters for brokers with asynchronous clients should override this; the default
+     * publishes synchronously and returns an already completed future.
      * 
      * @param topic the destination topic
-     * @param payload the message payload
+     * @param payload the serialized message
+     * @return a future that completes when the broker has accepted the message
+     */
+    default CompletableFuture<Void> publishAsync(String topic, EncodedPayload payload) {
+        try {
+            publish(topic, payload);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Publishes a batch of messages and reports the outcome of each one.
+     * Messages sharing a key must be delivered in the order of the batch, so once a message
+     * fails, later messages with the same key are not published and are reported as failed
+     * with a {@link DeliverySkippedException}.
+     * Adapters for brokers with native batching should override this; the default publishes
+     * the messages one by one.
+     * 
+     * @param messages the messages to publish
+     * @return one result per message, in the order of the batch
      */
-    void publish(String topic, String payload);
-} 
\ No newline at end of file
+    default List<PublishResult> publishBatch(List<OutboundMessage> messages) {
+        List<PublishResult> results = new ArrayList<>(messages.size());
+        Set<String> failedKeys = new HashSet<>();
+        for (OutboundMessage message : messages) {
+            if (failedKeys.contains(message.key())) {
+                results.add(PublishResult.failure(message.id(), new DeliverySkippedException(message.key())));
+                continue;
+            }
+            try {
+                publish(message.topic(), message.payload());
+                results.add(PublishResult.success(message.id()));
+            } catch (Exception e) {
+                failedKeys.add(message.key());
+                results.add(PublishResult.failure(message.id(), e));
+            }
+        }
+        return results;
+    }
+} 
@@ -1,10 +1,14 @@
 package com.example.hexagonalorders.domain.port.out;
 
 import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCursor;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Output port defining the contract for order persistence.
@@ -27,10 +31,53 @@ public interface OrderRepository {
     Optional<Order> findByOrderNumber(OrderNumber orderNumber);
 
     /**
-     * Retrieves all orders
-     * @return list of all orders
+     * Moves an order from PENDING to CONFIRMED with a single conditional update, without
+     * loading the order or its items
+     * @param orderNumber the order number
+     * @return APPLIED if the order was confirmed, NOT_FOUND if there is no such order,
+     *         INVALID_STATE if the order is not PENDING
+     */
+    StatusTransition confirmIfPending(OrderNumber orderNumber);
+
+    /**
+     * Moves all of the given orders that are PENDING to CONFIRMED with set-based statements,
+     * without loading the orders or their items
+     * @param orderNumbers the order numbers
+     * @return the outcome for each distinct order number, in the order they were given
+     */
+    Map<OrderNumber, StatusTransition> confirmAllIfPending(Collection<OrderNumber> orderNumbers);
+
+    /**
+     * Finds the orders with the given order numbers in a single round trip
+     * @param orderNumbers the order numbers
+     * @return the orders found, in no particular order; unknown order numbers are skipped
+     */
+    List<Order> findByOrderNumbers(Collection<OrderNumber> orderNumbers);
+
+    /**
+     * Retrieves a page of orders sorted by order date and then by ID.
+     * The page is located by seeking past the cursor rather than by skipping rows, so every
+     * page costs the same regardless of how deep into the listing it is.
+     * @param after the cursor to start after, or null for the first page
+     * @param limit the maximum number of orders to return
+     * @return the orders that sort after the cursor
+     */
+    List<Order> findPage(OrderCursor after, int limit);
+
+    /**
+     * Streams all orders sorted by order date and then by ID.
+     * Rows are fetched from the database in chunks as the stream is consumed and are not kept
+     * once mapped. The stream must be consumed inside a transaction and closed afterwards.
+     * @return a stream over all orders
+     */
+    Stream<Order> streamAll();
+
+    /**
+     * Streams the numbers of all orders without loading the orders.
+     * Like {@link #streamAll()}, the stream must be consumed inside a transaction and closed.
+     * @return a stream over all order numbers
      */
-    List<Order> findAll();
+    Stream<OrderNumber> streamOrderNumbers();
 
     /**
      * Deletes an order by its order number
@@ -0,0 +1,20 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+import java.util.UUID;
+
+/**
+ * A message handed to a {@link MessagePublisher} as part of a batch.
+ * 
+ * @param id identifies the message in the {@link PublishResult}s of the batch
+ * @param key the ordering key; messages with the same key must be delivered in batch order
+ * @param topic the destination topic
+ * @param payload the serialized message, passed to the broker as is
+ */
+public record OutboundMessage(
+    UUID id,
+    String key,
+    String topic,
+    EncodedPayload payload
+) {}
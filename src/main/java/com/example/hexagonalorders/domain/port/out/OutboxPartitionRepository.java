@@ -0,0 +1,37 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Output port for an outbox that is stored in daily partitions by creation time, so that
+ * expired messages can be removed a whole day at a time instead of row by row.
+ */
+public interface OutboxPartitionRepository {
+
+    /**
+     * @return true if the outbox is stored in daily partitions; the other methods do nothing useful otherwise
+     */
+    boolean isPartitioned();
+
+    /**
+     * Creates the partitions from today up to and including the given day that do not exist yet,
+     * so that new messages always land in the partition of their day.
+     *
+     * @param lastDay the last UTC day to create a partition for
+     * @return the number of partitions created
+     */
+    int createPartitionsUntil(LocalDate lastDay);
+
+    /**
+     * Drops the past partitions whose messages have all expired.
+     *
+     * @param expiredBefore per terminal status, messages processed before this time have expired
+     * @param now the current time
+     * @return the number of messages in the dropped partitions
+     */
+    int dropExpiredPartitions(Map<OutboxStatus, Instant> expiredBefore, Instant now);
+}
@@ -1,7 +1,12 @@
 package com.example.hexagonalorders.domain.port.out;
 
+import com.example.hexagonalorders.domain.model.OutboxBacklog;
 import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,28 +17,78 @@ import java.util.UUID;
  */
 public interface OutboxRepository {
     /**
-     * Saves an outbox message
+     * Saves a new outbox message; status changes of saved messages go through the other methods
      * @param message the outbox message to save
      * @return the saved outbox message
      */
     OutboxMessage save(OutboxMessage message);
 
     /**
-     * Finds pending outbox messages up to the specified limit
+     * Finds pending outbox messages that are due for delivery, up to the specified limit
      * @param limit maximum number of messages to retrieve
      * @return list of pending outbox messages
      */
     List<OutboxMessage> findPending(int limit);
 
     /**
-     * Marks an outbox message as processed
-     * @param id the ID of the outbox message
+     * Atomically claims up to the specified number of messages for the given owner.
+     * Claimed messages move from PENDING to IN_FLIGHT and are leased to the owner
+     * until the lease expires. Messages whose lease has already expired (e.g. because
+     * their owner crashed) are claimable again. Concurrent claimers never receive
+     * the same message while its lease is valid.
+     * A message is held back while an older message of the same aggregate is waiting for a
+     * retry or is leased to a claimer, so the messages of an aggregate are delivered in order
+     * across batches; a dead-lettered message no longer holds back the ones after it.
+     * @param owner identifier of the claiming processor
+     * @param limit maximum number of messages to claim
+     * @param leaseDuration how long the claimed messages stay reserved for the owner
+     * @return list of claimed outbox messages, oldest first
      */
-    void markProcessed(UUID id);
+    List<OutboxMessage> claimPending(String owner, int limit, Duration leaseDuration);
 
     /**
-     * Marks an outbox message as failed
-     * @param id the ID of the outbox message
+     * Marks a set of outbox messages as processed in a single operation
+     * @param ids the IDs of the outbox messages
+     * @return the number of messages updated
      */
-    void markFailed(UUID id);
-} 
\ No newline at end of file
+    int markProcessed(Collection<UUID> ids);
+
+    /**
+     * Records failed delivery attempts and schedules each message for another attempt at its
+     * own time, in a single round trip to the database
+     * @param retries the failed messages and when each is due again
+     */
+    void scheduleRetries(Collection<ScheduledRetry> retries);
+
+    /**
+     * Returns claimed messages that were not attempted to PENDING, due in creation order and
+     * without counting an attempt
+     * @param ids the IDs of the outbox messages
+     */
+    void release(Collection<UUID> ids);
+
+    /**
+     * Records the final failed delivery attempt of a set of messages that failed with the same
+     * error and moves them to the dead-letter status in a single operation
+     * @param ids the IDs of the outbox messages
+     * @param error description of the failure
+     */
+    void markDeadLetter(Collection<UUID> ids, String error);
+
+    /**
+     * Deletes up to the specified number of messages in a terminal status that were
+     * processed before the given time, oldest first
+     * @param status the terminal status (PROCESSED, FAILED or DEAD_LETTER)
+     * @param processedBefore messages processed before this time are deleted
+     * @param limit maximum number of messages to delete
+     * @return the number of messages deleted
+     */
+    int deleteProcessedBefore(OutboxStatus status, Instant processedBefore, int limit);
+
+    /**
+     * Summarizes the messages that are not delivered yet (PENDING, IN_FLIGHT, FAILED and
+     * DEAD_LETTER), grouped by aggregate type, event type and status
+     * @return one entry per group that has messages
+     */
+    List<OutboxBacklog> summarizeBacklog();
+}
@@ -0,0 +1,28 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+/**
+ * Output port defining how integration events are serialized for the outbox.
+ * The serialization format and compression are chosen by the implementation;
+ * the resulting payload carries the headers needed to decode it.
+ */
+public interface PayloadCodec {
+
+    /**
+     * Serializes an event.
+     * 
+     * @param event the event to serialize
+     * @return the serialized payload
+     */
+    EncodedPayload encode(Object event);
+
+    /**
+     * Deserializes a payload produced by {@link #encode(Object)}.
+     * 
+     * @param payload the serialized payload
+     * @param type the type of the event
+     * @return the event
+     */
+    <T> T decode(EncodedPayload payload, Class<T> type);
+}
@@ -0,0 +1,27 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import java.util.UUID;
+
+/**
+ * Outcome of publishing a single {@link OutboundMessage} within a batch.
+ * 
+ * @param id the ID of the message
+ * @param failure null if the message was published, otherwise the reason it was not
+ */
+public record PublishResult(
+    UUID id,
+    Exception failure
+) {
+
+    public static PublishResult success(UUID id) {
+        return new PublishResult(id, null);
+    }
+
+    public static PublishResult failure(UUID id, Exception failure) {
+        return new PublishResult(id, failure);
+    }
+
+    public boolean succeeded() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A failed delivery attempt of an outbox message and when the message is due again.
+ * 
+ * @param id the ID of the message
+ * @param error description of the failure
+ * @param nextAttemptAt the earliest time the message may be attempted again
+ */
+public record ScheduledRetry(
+    UUID id,
+    String error,
+    Instant nextAttemptAt
+) {
+}
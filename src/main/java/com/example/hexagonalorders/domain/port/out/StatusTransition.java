@@ -0,0 +1,13 @@
+package com.example.hexagonalorders.domain.port.out;
+
+/**
+ * Outcome of a conditional order status change performed by the {@link OrderRepository}.
+ */
+public enum StatusTransition {
+    /** The order was in the expected status and has been moved to the new one */
+    APPLIED,
+    /** No order exists with the given order number */
+    NOT_FOUND,
+    /** The order exists but is not in the status the transition starts from */
+    INVALID_STATE
+}
@@ -1,5 +1,6 @@
 package com.example.hexagonalorders.infrastructure.config;
 
+import com.example.hexagonalorders.application.service.GroupCommitOrderService;
 import com.example.hexagonalorders.application.service.OrderService;
 import com.example.hexagonalorders.domain.service.OrderValidationService;
 import com.example.hexagonalorders.domain.port.out.OrderNumberGenerator;
@@ -9,9 +10,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -31,12 +37,43 @@ public class OrderConfiguration {
             OrderRepository orderRepository,
             OrderNumberGenerator orderNumberGenerator,
             OrderValidationService orderValidationService,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${orders.conflict.max-retries:3}") int maxConflictRetries,
+            @Value("${orders.batch.chunk-size:100}") int batchChunkSize) {
         return new OrderService(
             orderRepository, 
             orderNumberGenerator, 
             orderValidationService, 
-            eventPublisher
+            eventPublisher,
+            transactionTemplate,
+            maxConflictRetries,
+            batchChunkSize
+        );
+    }
+
+    /**
+     * Commits concurrent createOrder and confirmOrder calls in shared transactions.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "orders.group-commit.enabled", havingValue = "true")
+    public GroupCommitOrderService groupCommitOrderService(
+            OrderService orderService,
+            OrderValidationService orderValidationService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${orders.group-commit.max-size:100}") int maxGroupSize,
+            @Value("${orders.group-commit.max-delay.ms:2}") long maxDelayMs,
+            @Value("${orders.group-commit.queue-capacity:1000}") int queueCapacity) {
+        return new GroupCommitOrderService(
+            orderService,
+            orderValidationService,
+            transactionTemplate,
+            meterRegistry,
+            maxGroupSize,
+            maxDelayMs,
+            queueCapacity
         );
     }
 
@@ -1,18 +1,37 @@
 package com.example.hexagonalorders.infrastructure.in.web;
 
+import com.example.hexagonalorders.application.exception.OrderConflictException;
 import com.example.hexagonalorders.application.exception.OrderNotFoundException;
 import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderStatus;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderBatchResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderConfirmationBatchResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderConfirmationResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderCreationResultDto;
 import com.example.hexagonalorders.infrastructure.in.web.dto.OrderDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderPageDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderStatusDto;
 import com.example.hexagonalorders.infrastructure.in.web.mapper.OrderMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * REST controller for order operations.
@@ -25,8 +44,13 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Orders", description = "Order management API")
 public class OrderController {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 1000;
+    private static final int STREAM_FLUSH_EVERY = 100;
+
     private final OrderUseCase orderUseCase;
     private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create a new order", description = "Creates a new order and returns the created order.")
     @ApiResponses({
@@ -40,6 +64,89 @@ public class OrderController {
         return ResponseEntity.ok(orderMapper.toDto(savedOrder));
     }
 
+    @Operation(summary = "Create orders in bulk", description = "Creates up to 1000 orders and reports the outcome of each one. Orders are created in chunked transactions; an invalid order does not keep the others from being created.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Outcome of each order"),
+        @ApiResponse(responseCode = "400", description = "Empty batch or more than 1000 orders")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<OrderBatchResultDto> createOrders(@RequestBody List<OrderDto> orderDtos) {
+        if (orderDtos.isEmpty() || orderDtos.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        OrderCreationResult[] results = new OrderCreationResult[orderDtos.size()];
+        List<Order> orders = new ArrayList<>(orderDtos.size());
+        List<Integer> positions = new ArrayList<>(orderDtos.size());
+        for (int i = 0; i < orderDtos.size(); i++) {
+            try {
+                orders.add(orderMapper.toDomain(orderDtos.get(i)));
+                positions.add(i);
+            } catch (RuntimeException e) {
+                results[i] = OrderCreationResult.failed("Invalid order: " + e.getMessage());
+            }
+        }
+        List<OrderCreationResult> created = orders.isEmpty() ? List.of() : orderUseCase.createOrders(orders);
+        for (int j = 0; j < created.size(); j++) {
+            results[positions.get(j)] = created.get(j);
+        }
+        
+        List<OrderCreationResultDto> resultDtos = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            resultDtos.add(orderMapper.toDto(i, results[i]));
+        }
+        return ResponseEntity.ok(new OrderBatchResultDto(resultDtos));
+    }
+
+    @Operation(summary = "List orders", description = "Returns a page of orders sorted by order date. Pass the nextCursor of a page as 'after' to fetch the following page.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of orders"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderPageDto> listOrders(@RequestParam(defaultValue = "50") int limit,
+                                                   @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        OrderCursor cursor;
+        try {
+            cursor = after == null || after.isEmpty() ? null : orderMapper.toCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderMapper.toDto(orderUseCase.getOrders(cursor, limit)));
+    }
+
+    @Operation(summary = "Stream all orders", description = "Streams every order as newline-delimited JSON, sorted by order date. Requested with 'Accept: application/x-ndjson'.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "One order per line")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders() {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try {
+                orderUseCase.forEachOrder(order -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(orderMapper.toDto(order)));
+                        out.write('\n');
+                        if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Get an order by order number", description = "Retrieves an order by its order number.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Order found"),
@@ -53,17 +160,17 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Confirm an order", description = "Confirms an order, changing its status from PENDING to CONFIRMED.")
+    @Operation(summary = "Confirm an order", description = "Confirms an order, changing its status from PENDING to CONFIRMED, and returns its new status.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Order confirmed successfully"),
         @ApiResponse(responseCode = "404", description = "Order not found"),
         @ApiResponse(responseCode = "400", description = "Order cannot be confirmed (e.g., not in PENDING status)")
     })
     @PostMapping("/{orderNumber}/confirm")
-    public ResponseEntity<OrderDto> confirmOrder(@PathVariable String orderNumber) {
+    public ResponseEntity<OrderStatusDto> confirmOrder(@PathVariable String orderNumber) {
         try {
-            Order confirmedOrder = orderUseCase.confirmOrder(new OrderNumber(orderNumber));
-            return ResponseEntity.ok(orderMapper.toDto(confirmedOrder));
+            orderUseCase.confirmOrder(new OrderNumber(orderNumber));
+            return ResponseEntity.ok(new OrderStatusDto(orderNumber, OrderStatus.CONFIRMED.name()));
         } catch (OrderNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (IllegalStateException e) {
@@ -71,13 +178,40 @@ public class OrderController {
         }
     }
 
+    @Operation(summary = "Confirm orders in bulk", description = "Confirms up to 1000 orders in one transaction and reports the outcome of each distinct order number. Orders that do not exist or are not PENDING are left unchanged.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Outcome of each order"),
+        @ApiResponse(responseCode = "400", description = "Empty batch, more than 1000 order numbers or a blank order number")
+    })
+    @PostMapping("/batch/confirm")
+    public ResponseEntity<OrderConfirmationBatchResultDto> confirmOrders(@RequestBody List<String> orderNumbers) {
+        if (orderNumbers.isEmpty() || orderNumbers.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<OrderNumber> numbers;
+        try {
+            numbers = orderNumbers.stream().map(OrderNumber::new).toList();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<OrderConfirmationResultDto> results = new ArrayList<>(numbers.size());
+        orderUseCase.confirmOrders(numbers).forEach((orderNumber, transition) ->
+            results.add(orderMapper.toDto(orderNumber, transition)));
+        return ResponseEntity.ok(new OrderConfirmationBatchResultDto(results));
+    }
+
     @Operation(summary = "Delete an order by order number", description = "Deletes an order by its order number.")
     @ApiResponses({
-        @ApiResponse(responseCode = "204", description = "Order deleted successfully")
+        @ApiResponse(responseCode = "204", description = "Order deleted successfully"),
+        @ApiResponse(responseCode = "409", description = "Order was modified concurrently")
     })
     @DeleteMapping("/{orderNumber}")
     public ResponseEntity<Void> deleteOrder(@PathVariable String orderNumber) {
-        orderUseCase.deleteOrder(new OrderNumber(orderNumber));
-        return ResponseEntity.noContent().build();
+        try {
+            orderUseCase.deleteOrder(new OrderNumber(orderNumber));
+            return ResponseEntity.noContent().build();
+        } catch (OrderConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk order creation.
+ */
+@Data
+public class OrderBatchResultDto {
+    @Schema(description = "Number of orders created.", example = "2")
+    private int created;
+
+    @Schema(description = "Number of orders that were not created.", example = "1")
+    private int failed;
+
+    @Schema(description = "Outcome of each order, in the order they were submitted.")
+    private List<OrderCreationResultDto> results;
+
+    public OrderBatchResultDto() {}
+
+    public OrderBatchResultDto(List<OrderCreationResultDto> results) {
+        this.results = results;
+        this.created = (int) results.stream().filter(OrderCreationResultDto::isCreated).count();
+        this.failed = results.size() - created;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk order confirmation.
+ */
+@Data
+public class OrderConfirmationBatchResultDto {
+    @Schema(description = "Number of orders confirmed.", example = "2")
+    private int confirmed;
+
+    @Schema(description = "Number of orders that were not confirmed.", example = "1")
+    private int failed;
+
+    @Schema(description = "Outcome of each distinct order number, in the order they were submitted.")
+    private List<OrderConfirmationResultDto> results;
+
+    public OrderConfirmationBatchResultDto() {}
+
+    public OrderConfirmationBatchResultDto(List<OrderConfirmationResultDto> results) {
+        this.results = results;
+        this.confirmed = (int) results.stream().filter(OrderConfirmationResultDto::isConfirmed).count();
+        this.failed = results.size() - confirmed;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for the outcome of confirming one order of a batch.
+ */
+@Data
+public class OrderConfirmationResultDto {
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID_STATE = "INVALID_STATE";
+
+    @Schema(description = "Business order number.", example = "ORD-20240618-001")
+    private String orderNumber;
+
+    @Schema(description = "CONFIRMED if the order was confirmed, NOT_FOUND if there is no such order, INVALID_STATE if the order is not PENDING.",
+            example = "CONFIRMED")
+    private String outcome;
+
+    public OrderConfirmationResultDto() {}
+
+    public OrderConfirmationResultDto(String orderNumber, String outcome) {
+        this.orderNumber = orderNumber;
+        this.outcome = outcome;
+    }
+
+    @JsonIgnore
+    public boolean isConfirmed() {
+        return CONFIRMED.equals(outcome);
+    }
+}
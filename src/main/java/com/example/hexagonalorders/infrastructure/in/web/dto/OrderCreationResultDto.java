@@ -0,0 +1,31 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for the outcome of creating one order of a batch.
+ */
+@Data
+public class OrderCreationResultDto {
+    @Schema(description = "Position of the order in the submitted batch, starting at 0.", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the order was created.", example = "true")
+    private boolean created;
+
+    @Schema(description = "The created order. Absent if the order was not created.")
+    private OrderDto order;
+
+    @Schema(description = "Why the order was not created. Absent if it was created.", example = "Customer ID cannot be null or empty")
+    private String error;
+
+    public OrderCreationResultDto() {}
+
+    public OrderCreationResultDto(int index, boolean created, OrderDto order, String error) {
+        this.index = index;
+        this.created = created;
+        this.order = order;
+        this.error = error;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of the order listing.
+ */
+@Data
+public class OrderPageDto {
+    @Schema(description = "Orders of the page, sorted by order date and then by ID.")
+    private List<OrderDto> orders;
+
+    @Schema(description = "Opaque cursor to pass as 'after' to fetch the next page. Absent on the last page.", example = "MjAyNC0wNi0xOFQxMDowMHwxMjM")
+    private String nextCursor;
+
+    public OrderPageDto() {}
+
+    public OrderPageDto(List<OrderDto> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+}
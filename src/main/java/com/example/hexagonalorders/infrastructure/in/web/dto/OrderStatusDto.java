@@ -0,0 +1,23 @@
+package com.example.hexagonalorders.infrastructure.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for the status of an order after a status change.
+ */
+@Data
+public class OrderStatusDto {
+    @Schema(description = "Business order number.", example = "ORD-20240618-001")
+    private String orderNumber;
+
+    @Schema(description = "Order status.", example = "CONFIRMED")
+    private String status;
+
+    public OrderStatusDto() {}
+
+    public OrderStatusDto(String orderNumber, String status) {
+        this.orderNumber = orderNumber;
+        this.status = status;
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.hexagonalorders.infrastructure.in.web.mapper;
 
 import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderCursor;
 import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderPage;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
 import com.example.hexagonalorders.domain.model.valueobject.Quantity;
 import com.example.hexagonalorders.domain.model.OrderStatus;
 import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderConfirmationResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderCreationResultDto;
 import com.example.hexagonalorders.infrastructure.in.web.dto.OrderDto;
 import com.example.hexagonalorders.infrastructure.in.web.dto.OrderItemDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderPageDto;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
@@ -44,6 +55,55 @@ public class OrderMapper {
         return dto;
     }
     
+    public OrderPageDto toDto(OrderPage page) {
+        List<OrderDto> orders = page.orders().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return new OrderPageDto(orders, page.hasNext() ? toCursorToken(page.next()) : null);
+    }
+    
+    public OrderCreationResultDto toDto(int index, OrderCreationResult result) {
+        return new OrderCreationResultDto(index, result.isCreated(), toDto(result.order()), result.error());
+    }
+    
+    public OrderConfirmationResultDto toDto(OrderNumber orderNumber, StatusTransition transition) {
+        String outcome = switch (transition) {
+            case APPLIED -> OrderConfirmationResultDto.CONFIRMED;
+            case NOT_FOUND -> OrderConfirmationResultDto.NOT_FOUND;
+            case INVALID_STATE -> OrderConfirmationResultDto.INVALID_STATE;
+        };
+        return new OrderConfirmationResultDto(orderNumber.value(), outcome);
+    }
+    
+    /**
+     * Encodes a cursor as an opaque, URL-safe token.
+     */
+    public String toCursorToken(OrderCursor cursor) {
+        String value = cursor.orderDate() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a token created by {@link #toCursorToken(OrderCursor)}.
+     * 
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public OrderCursor toCursor(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            return new OrderCursor(
+                LocalDateTime.parse(value.substring(0, separator)),
+                Long.valueOf(value.substring(separator + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+    
     public Order toDomain(OrderDto dto) {
         if (dto == null) {
             return null;
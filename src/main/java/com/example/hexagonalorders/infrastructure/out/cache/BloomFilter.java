@@ -0,0 +1,107 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of strings with a fixed memory budget.
+ * A key that was put is always reported as possibly contained; a key that was not put is
+ * reported as possibly contained with roughly the configured false-positive rate, as long as
+ * no more keys than {@link #capacity()} were put. Keys cannot be removed.
+ *
+ * Bit positions are derived from one 64-bit hash of the key by double hashing, and bits are set
+ * with compare-and-set, so concurrent puts never lose each other's bits.
+ */
+final class BloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+
+    private BloomFilter(int wordCount, int hashCount, long capacity) {
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a filter that uses at most the given number of bytes and is sized for the given
+     * false-positive rate, which determines how many keys it can hold at that rate.
+     */
+    static BloomFilter withMemoryBudget(long maxBytes, double falsePositiveRate) {
+        if (maxBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Bloom filter memory budget must be at least " + Long.BYTES + " bytes");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter false-positive rate must be between 0 and 1");
+        }
+        int wordCount = (int) Math.min(maxBytes / Long.BYTES, Integer.MAX_VALUE - 8);
+        long bitCount = (long) wordCount * Long.SIZE;
+        // Optimal sizing: m = -n ln p / (ln 2)^2 bits and k = -ln p / ln 2 hash functions
+        int hashCount = Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / LN_2));
+        long capacity = Math.max(1, (long) (bitCount * LN_2 * LN_2 / -Math.log(falsePositiveRate)));
+        return new BloomFilter(wordCount, hashCount, capacity);
+    }
+
+    void put(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns how many keys the filter holds at the false-positive rate it was sized for.
+     */
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the memory used by the bits of the filter, in bytes.
+     */
+    long sizeInBytes() {
+        return bitCount / Byte.SIZE;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,395 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of the order repository, keyed by order number.
+ * Caffeine bounds the cache by weight (one unit per order plus one per item) and admits new
+ * entries with W-TinyLFU, so a burst of one-off reads does not evict the hot orders.
+ * 
+ * The cache holds immutable snapshots and every read returns a fresh Order built from one,
+ * so callers can neither change a cached order nor see domain events raised by another caller.
+ * Every write through this repository evicts the order immediately and, when a transaction is
+ * active, once more after it completes, so a value read inside an uncommitted or rolled back
+ * transaction does not survive it. A bulk lookup loads the missing orders with one query, and
+ * evicts again every order that was evicted while that query ran, since Caffeine does not order
+ * a bulk load after concurrent evictions the way it does a single-key load.
+ * 
+ * Lookups of order numbers that do not exist are answered without a query in two ways:
+ * - a Bloom filter of all known order numbers, loaded when the application is ready and updated
+ *   by every save, rejects most unknown numbers outright
+ * - a small negative cache remembers the numbers that were recently looked up and not found
+ * The Bloom filter never forgets a number, so deleted orders fall through to the negative cache.
+ * A lookup that misses concurrently with the creation of the same order can cache the miss for
+ * up to orders.cache.negative.ttl.ms.
+ * 
+ * Writes also send the changed order through the {@link OrderChangeTransport}, in the same
+ * transaction, so the caches of the other nodes evict it once the change has committed; the
+ * evictions arrive through the {@link OrderChangeChannel}, which also adds the order to the
+ * Bloom filter of each node. An order created on another node is therefore answered as not
+ * found by this node until its change is delivered, normally within
+ * orders.cache.invalidation.poll.ms of its commit. A change the poll misses, because it
+ * committed more than orders.cache.invalidation.lookback.ms after it was stamped, is picked up
+ * when the filter is rebuilt from the database every orders.cache.bloom.rebuild.ms, which bounds
+ * how long an existing order can be reported missing.
+ * 
+ * Metrics are published under cache.* with the tags cache=orders and cache=orders.negative,
+ * and cache.bloom.rejections counts the lookups rejected by the Bloom filter.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "orders.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingOrderRepository implements OrderRepository {
+
+    static final String CACHE_NAME = "orders";
+    static final String NEGATIVE_CACHE_NAME = "orders.negative";
+
+    private static final Logger log = LoggerFactory.getLogger(CachingOrderRepository.class);
+
+    private final OrderRepository delegate;
+    private final OrderChangeTransport changeTransport;
+    private final Cache<String, CachedOrder> cache;
+    private final Cache<String, Boolean> negativeCache;
+    private final Counter bloomRejections;
+    private final boolean bloomEnabled;
+    private final double bloomFalsePositiveRate;
+    private final long bloomMaxBytes;
+    // Null until loaded, and always when disabled
+    private volatile BloomFilter knownOrderNumbers;
+    // The filter being loaded; saves and delivered changes are added to it as well
+    private volatile BloomFilter loadingOrderNumbers;
+    private final Set<BulkLoad> bulkLoads = ConcurrentHashMap.newKeySet();
+
+    public CachingOrderRepository(@Qualifier("orderRepositoryAdapter") OrderRepository delegate,
+                                  OrderChangeChannel changeChannel,
+                                  OrderChangeTransport changeTransport,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${orders.cache.max-weight:100000}") long maxWeight,
+                                  @Value("${orders.cache.ttl.ms:60000}") long ttlMs,
+                                  @Value("${orders.cache.negative.max-size:10000}") long negativeMaxSize,
+                                  @Value("${orders.cache.negative.ttl.ms:5000}") long negativeTtlMs,
+                                  @Value("${orders.cache.bloom.enabled:true}") boolean bloomEnabled,
+                                  @Value("${orders.cache.bloom.false-positive-rate:0.01}") double bloomFalsePositiveRate,
+                                  @Value("${orders.cache.bloom.max-bytes:4194304}") long bloomMaxBytes) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Cache max weight must be at least 1");
+        }
+        if (ttlMs < 1) {
+            throw new IllegalArgumentException("Cache TTL must be at least 1 ms");
+        }
+        if (negativeMaxSize < 0) {
+            throw new IllegalArgumentException("Negative cache max size must not be negative");
+        }
+        if (negativeTtlMs < 1) {
+            throw new IllegalArgumentException("Negative cache TTL must be at least 1 ms");
+        }
+        this.delegate = delegate;
+        this.changeTransport = changeTransport;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((String orderNumber, CachedOrder order) -> 1 + order.items().size())
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+        this.negativeCache = Caffeine.newBuilder()
+            .maximumSize(negativeMaxSize)
+            .expireAfterWrite(Duration.ofMillis(negativeTtlMs))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, NEGATIVE_CACHE_NAME);
+        this.bloomRejections = Counter.builder("cache.bloom.rejections")
+            .description("Lookups answered as not found by the Bloom filter of known order numbers")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+        this.bloomEnabled = bloomEnabled;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.bloomMaxBytes = bloomMaxBytes;
+        changeChannel.subscribe(orderNumber -> {
+            known(orderNumber.value());
+            evictNow(orderNumber.value());
+        });
+    }
+
+    /**
+     * Loads the numbers of all orders into a new Bloom filter and replaces the current one with it.
+     * Until the first load, every lookup that is not cached goes to the database. Reloading at
+     * orders.cache.bloom.rebuild.ms adds the orders whose change was never delivered to this node.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${orders.cache.bloom.rebuild.ms:3600000}",
+               fixedDelayString = "${orders.cache.bloom.rebuild.ms:3600000}")
+    @Transactional(readOnly = true)
+    public synchronized void loadKnownOrderNumbers() {
+        if (!bloomEnabled) {
+            return;
+        }
+        BloomFilter filter = BloomFilter.withMemoryBudget(bloomMaxBytes, bloomFalsePositiveRate);
+        loadingOrderNumbers = filter;
+        long count = 0;
+        try (Stream<OrderNumber> orderNumbers = delegate.streamOrderNumbers()) {
+            Iterator<OrderNumber> iterator = orderNumbers.iterator();
+            while (iterator.hasNext()) {
+                filter.put(iterator.next().value());
+                count++;
+            }
+        } finally {
+            loadingOrderNumbers = null;
+        }
+        knownOrderNumbers = filter;
+
+        log.info("Loaded {} order numbers into the Bloom filter ({} bytes, capacity {})",
+                count, filter.sizeInBytes(), filter.capacity());
+        if (count > filter.capacity()) {
+            log.warn("The Bloom filter holds more order numbers than its capacity; "
+                   + "raise orders.cache.bloom.max-bytes to keep its false-positive rate");
+        }
+    }
+
+    @Override
+    public Optional<Order> findByOrderNumber(OrderNumber orderNumber) {
+        String key = orderNumber.value();
+        if (isKnownAbsent(key)) {
+            return Optional.empty();
+        }
+        CachedOrder cached = cache.get(key, k -> delegate.findByOrderNumber(orderNumber).map(this::snapshot).orElse(null));
+        if (cached == null) {
+            negativeCache.put(key, Boolean.TRUE);
+            return Optional.empty();
+        }
+        return Optional.of(cached.toOrder());
+    }
+
+    @Override
+    public List<Order> findByOrderNumbers(Collection<OrderNumber> orderNumbers) {
+        Set<String> keys = orderNumbers.stream()
+            .map(OrderNumber::value)
+            .filter(key -> !isKnownAbsent(key))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        BulkLoad load = new BulkLoad(keys);
+        bulkLoads.add(load);
+        Map<String, CachedOrder> cached;
+        try {
+            cached = cache.getAll(keys, missing ->
+                delegate.findByOrderNumbers(missing.stream().map(OrderNumber::new).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(order -> order.getOrderNumber().value(), this::snapshot)));
+        } finally {
+            bulkLoads.remove(load);
+        }
+        // The query may have read an order before a concurrent eviction, and cached it after
+        load.evicted().forEach(cache::invalidate);
+        for (String key : keys) {
+            if (!cached.containsKey(key)) {
+                negativeCache.put(key, Boolean.TRUE);
+            }
+        }
+        return cached.values().stream()
+            .map(CachedOrder::toOrder)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        Order saved = delegate.save(order);
+        known(saved.getOrderNumber().value());
+        changed(saved.getOrderNumber());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public StatusTransition confirmIfPending(OrderNumber orderNumber) {
+        StatusTransition transition = delegate.confirmIfPending(orderNumber);
+        if (transition == StatusTransition.APPLIED) {
+            changed(orderNumber);
+        }
+        return transition;
+    }
+
+    @Override
+    @Transactional
+    public Map<OrderNumber, StatusTransition> confirmAllIfPending(Collection<OrderNumber> orderNumbers) {
+        Map<OrderNumber, StatusTransition> transitions = delegate.confirmAllIfPending(orderNumbers);
+        transitions.forEach((orderNumber, transition) -> {
+            if (transition == StatusTransition.APPLIED) {
+                changed(orderNumber);
+            }
+        });
+        return transitions;
+    }
+
+    @Override
+    @Transactional
+    public void deleteByOrderNumber(OrderNumber orderNumber) {
+        delegate.deleteByOrderNumber(orderNumber);
+        changed(orderNumber);
+    }
+
+    @Override
+    public List<Order> findPage(OrderCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<OrderNumber> streamOrderNumbers() {
+        return delegate.streamOrderNumbers();
+    }
+
+    /**
+     * Runs pending maintenance, such as evictions, which Caffeine otherwise performs asynchronously.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+        negativeCache.cleanUp();
+    }
+
+    private boolean isKnownAbsent(String key) {
+        BloomFilter filter = knownOrderNumbers;
+        if (filter != null && !filter.mightContain(key)) {
+            bloomRejections.increment();
+            return true;
+        }
+        return negativeCache.getIfPresent(key) != null;
+    }
+
+    private CachedOrder snapshot(Order order) {
+        // An order found in the database is known even if its creation was never delivered here
+        known(order.getOrderNumber().value());
+        return CachedOrder.of(order);
+    }
+
+    private void known(String key) {
+        BloomFilter filter = knownOrderNumbers;
+        if (filter != null) {
+            filter.put(key);
+        }
+        BloomFilter loading = loadingOrderNumbers;
+        if (loading != null) {
+            loading.put(key);
+        }
+    }
+
+    private void changed(OrderNumber orderNumber) {
+        changeTransport.send(orderNumber);
+        evict(orderNumber);
+    }
+
+    private void evict(OrderNumber orderNumber) {
+        String key = orderNumber.value();
+        evictNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(key);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String key) {
+        // Recorded before evicting, so a bulk load either sees the eviction or caches before it
+        for (BulkLoad load : bulkLoads) {
+            if (load.keys().contains(key)) {
+                load.evicted().add(key);
+            }
+        }
+        cache.invalidate(key);
+        negativeCache.invalidate(key);
+    }
+
+    /**
+     * The keys of a running bulk lookup, and those of them evicted since it started.
+     * Compared by identity, so concurrent lookups of the same keys are tracked apart.
+     */
+    private static final class BulkLoad {
+        private final Set<String> keys;
+        private final Set<String> evicted = ConcurrentHashMap.newKeySet();
+
+        BulkLoad(Set<String> keys) {
+            this.keys = keys;
+        }
+
+        Set<String> keys() {
+            return keys;
+        }
+
+        Set<String> evicted() {
+            return evicted;
+        }
+    }
+
+    /**
+     * Immutable snapshot of an order as it was read from the repository.
+     */
+    record CachedOrder(
+        Long id,
+        OrderNumber orderNumber,
+        String customerId,
+        LocalDateTime orderDate,
+        List<OrderItem> items,
+        ShippingAddress shippingAddress,
+        OrderStatus status,
+        Long version
+    ) {
+
+        CachedOrder {
+            items = List.copyOf(items);
+        }
+
+        static CachedOrder of(Order order) {
+            return new CachedOrder(order.getId(), order.getOrderNumber(), order.getCustomerId(), order.getOrderDate(),
+                order.getItems(), order.getShippingAddress(), order.getStatus(), order.getVersion());
+        }
+
+        Order toOrder() {
+            return new Order(id, orderNumber, customerId, orderDate, new ArrayList<>(items), shippingAddress, status, version);
+        }
+    }
+}
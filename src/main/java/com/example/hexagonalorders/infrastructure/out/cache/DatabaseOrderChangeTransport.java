@@ -0,0 +1,119 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderChangeJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.repository.OrderChangeJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order change transport backed by the order_changes table.
+ * A change is inserted in the transaction that makes it, next to the order update and the
+ * outbox row, so it becomes visible exactly when they commit. Every node polls the table at
+ * orders.cache.invalidation.poll.ms and hands the changes it has not seen yet to its
+ * {@link OrderChangeChannel}.
+ * 
+ * A change is stamped when it is inserted, not when it commits, so a change can become visible
+ * after a later-stamped one has already been read. Each poll therefore re-reads the changes
+ * stamped within orders.cache.invalidation.lookback.ms before the newest one seen, and skips
+ * the ones already delivered. A transaction that commits later than that, or a clock skew
+ * between nodes beyond it, is covered by the cache TTL only. Changes are deleted once they are
+ * older than orders.cache.invalidation.retention.ms.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseOrderChangeTransport implements OrderChangeTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseOrderChangeTransport.class);
+
+    private final OrderChangeJpaRepository changeRepository;
+    private final OrderChangeChannel channel;
+    private final Duration lookback;
+    private final Duration retention;
+
+    // Newest change stamp seen, and the changes within the lookback window already delivered
+    private Instant watermark;
+    private final Map<Long, Instant> delivered = new HashMap<>();
+
+    public DatabaseOrderChangeTransport(OrderChangeJpaRepository changeRepository,
+                                        OrderChangeChannel channel,
+                                        @Value("${orders.cache.invalidation.lookback.ms:5000}") long lookbackMs,
+                                        @Value("${orders.cache.invalidation.retention.ms:600000}") long retentionMs) {
+        if (lookbackMs < 0) {
+            throw new IllegalArgumentException("Invalidation lookback must not be negative");
+        }
+        if (retentionMs <= lookbackMs) {
+            throw new IllegalArgumentException("Invalidation retention must be longer than the lookback");
+        }
+        this.changeRepository = changeRepository;
+        this.channel = channel;
+        this.lookback = Duration.ofMillis(lookbackMs);
+        this.retention = Duration.ofMillis(retentionMs);
+        // The cache starts empty, so earlier changes do not need to be delivered
+        this.watermark = Instant.now();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(OrderNumber orderNumber) {
+        changeRepository.save(new OrderChangeJpaEntity(orderNumber.value(), Instant.now()));
+    }
+
+    /**
+     * Delivers the committed changes that were not delivered yet to the local channel.
+     * 
+     * @return the number of changed orders delivered
+     */
+    @Scheduled(fixedDelayString = "${orders.cache.invalidation.poll.ms:1000}")
+    public synchronized int poll() {
+        List<OrderChangeJpaEntity> changes =
+            changeRepository.findByChangedAtAfterOrderByChangedAtAsc(watermark.minus(lookback));
+        Set<OrderNumber> changed = new LinkedHashSet<>();
+        for (OrderChangeJpaEntity change : changes) {
+            if (delivered.putIfAbsent(change.getId(), change.getChangedAt()) == null) {
+                changed.add(new OrderNumber(change.getOrderNumber()));
+            }
+            if (change.getChangedAt().isAfter(watermark)) {
+                watermark = change.getChangedAt();
+            }
+        }
+        Instant windowStart = watermark.minus(lookback);
+        delivered.values().removeIf(changedAt -> !changedAt.isAfter(windowStart));
+        
+        if (!changed.isEmpty()) {
+            log.debug("Delivering {} order changes", changed.size());
+            channel.publish(changed);
+        }
+        return changed.size();
+    }
+
+    /**
+     * Deletes the changes older than the retention window.
+     * This method runs at a fixed delay of orders.cache.invalidation.retention.ms.
+     * 
+     * @return the number of changes deleted
+     */
+    @Scheduled(fixedDelayString = "${orders.cache.invalidation.retention.ms:600000}")
+    @Transactional
+    public int purgeExpired() {
+        int deleted = changeRepository.deleteChangedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} expired order changes", deleted);
+        }
+        return deleted;
+    }
+}
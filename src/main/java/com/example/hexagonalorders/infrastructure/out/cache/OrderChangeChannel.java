@@ -0,0 +1,46 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Local fan-out of order changes received from an {@link OrderChangeTransport}.
+ * Every subscriber on this node, such as the order cache, is told about every changed order.
+ * A failing subscriber is logged and does not keep the others from being notified.
+ */
+@Component
+public class OrderChangeChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderChangeChannel.class);
+
+    private final List<Consumer<OrderNumber>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a subscriber that is called once for every changed order.
+     */
+    public void subscribe(Consumer<OrderNumber> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Notifies all subscribers of the given changed orders.
+     */
+    public void publish(Collection<OrderNumber> orderNumbers) {
+        for (OrderNumber orderNumber : orderNumbers) {
+            for (Consumer<OrderNumber> subscriber : subscribers) {
+                try {
+                    subscriber.accept(orderNumber);
+                } catch (RuntimeException e) {
+                    log.error("Order change subscriber failed for order: {}", orderNumber.value(), e);
+                }
+            }
+        }
+    }
+}
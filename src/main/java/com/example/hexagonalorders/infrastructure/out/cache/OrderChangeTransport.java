@@ -0,0 +1,19 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+
+/**
+ * Carries order changes from the node that made them to every node running an order cache.
+ * Implementations deliver each change to the {@link OrderChangeChannel} of every node, the
+ * sending node included, and only once the transaction that made the change has committed.
+ */
+public interface OrderChangeTransport {
+
+    /**
+     * Records that an order changed. Called inside the transaction that changes the order,
+     * so the change is delivered if and only if that transaction commits.
+     * 
+     * @param orderNumber the number of the changed order
+     */
+    void send(OrderNumber orderNumber);
+}
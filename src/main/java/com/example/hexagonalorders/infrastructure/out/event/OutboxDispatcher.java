@@ -0,0 +1,81 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.application.event.OutboxMessageSavedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Component that publishes new outbox messages as soon as the transaction that wrote them commits.
+ * This removes the polling delay from the hot path; the scheduled poll in {@link OutboxProcessor}
+ * remains as a safety net. Signals are coalesced: while a drain is scheduled, further commits do
+ * not queue additional drains, and a commit that arrives during a drain schedules exactly one more.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxProcessor outboxProcessor;
+    private final ExecutorService executor;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    public OutboxDispatcher(OutboxProcessor outboxProcessor) {
+        this.outboxProcessor = outboxProcessor;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Handles OutboxMessageSavedEvent once the transaction that wrote the message has committed.
+     * If the event is published outside a transaction, the message is already committed and the
+     * dispatch is triggered immediately.
+     * 
+     * @param event the event describing the saved outbox message
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxMessageSaved(OutboxMessageSavedEvent event) {
+        log.debug("Outbox message {} committed, triggering dispatch", event.messageId());
+        signal();
+    }
+
+    /**
+     * Requests a drain of the outbox on the dispatcher thread.
+     */
+    public void signal() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        // Clear the flag first so that commits arriving during this drain schedule another one
+        drainScheduled.set(false);
+        try {
+            outboxProcessor.processOutboxMessages();
+        } catch (Exception e) {
+            log.error("Outbox dispatch failed, messages will be picked up by the next poll", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxBacklog;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer instrumentation of the outbox, exposed through /actuator/metrics.
+ * 
+ * Metrics:
+ * - outbox.messages: undelivered messages, tagged by aggregateType, eventType and status
+ * - outbox.oldest.pending.age: age in seconds of the oldest PENDING or IN_FLIGHT message (end-to-end lag)
+ * - outbox.batch.size: number of messages claimed per batch
+ * - outbox.publish.latency: time spent in the MessagePublisher, tagged by operation
+ * - outbox.db.time: time spent in outbox repository calls, tagged by operation
+ * 
+ * The backlog gauges are computed from one grouped query that runs at a fixed delay defined by
+ * the outbox.metrics.backlog-refresh.ms property (defaults to 15000ms), so scraping the
+ * metrics never queries the database.
+ */
+@Component
+public class OutboxMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxMetrics.class);
+
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final MultiGauge backlogGauge;
+    private final DistributionSummary batchSize;
+    private volatile Instant oldestPendingCreatedAt;
+
+    public OutboxMetrics(OutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.backlogGauge = MultiGauge.builder("outbox.messages")
+            .description("Outbox messages that are not delivered yet")
+            .register(meterRegistry);
+        Gauge.builder("outbox.oldest.pending.age", this, OutboxMetrics::oldestPendingAgeSeconds)
+            .description("Age of the oldest outbox message waiting for delivery")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("outbox.batch.size")
+            .description("Number of outbox messages claimed per batch")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reloads the backlog gauges from the database.
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.backlog-refresh.ms:15000}")
+    public void refreshBacklog() {
+        List<OutboxBacklog> backlog;
+        try {
+            backlog = timeDb("summarizeBacklog", outboxRepository::summarizeBacklog);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh outbox backlog metrics", e);
+            return;
+        }
+        
+        backlogGauge.register(backlog.stream()
+            .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of(
+                    "aggregateType", entry.aggregateType(),
+                    "eventType", entry.eventType(),
+                    "status", entry.status().name()),
+                entry.count()))
+            .toList(), true);
+        oldestPendingCreatedAt = backlog.stream()
+            .filter(entry -> entry.status() == OutboxStatus.PENDING || entry.status() == OutboxStatus.IN_FLIGHT)
+            .map(OutboxBacklog::oldestCreatedAt)
+            .min(Instant::compareTo)
+            .orElse(null);
+    }
+
+    /**
+     * Records the size of a claimed batch.
+     */
+    public void recordBatch(int size) {
+        batchSize.record(size);
+    }
+
+    /**
+     * Runs a repository call and records its duration under outbox.db.time.
+     */
+    public <T> T timeDb(String operation, Supplier<T> call) {
+        return timer("outbox.db.time", "Time spent in outbox repository calls", operation).record(call);
+    }
+
+    /**
+     * Runs a repository call and records its duration under outbox.db.time.
+     */
+    public void timeDb(String operation, Runnable call) {
+        timer("outbox.db.time", "Time spent in outbox repository calls", operation).record(call);
+    }
+
+    /**
+     * Runs a publisher call and records its duration under outbox.publish.latency.
+     */
+    public <T> T timePublish(String operation, Supplier<T> call) {
+        return publishTimer(operation).record(call);
+    }
+
+    /**
+     * Starts an asynchronous publisher call and records the time until its future completes
+     * under outbox.publish.latency.
+     */
+    public CompletableFuture<Void> timePublishAsync(String operation, Supplier<CompletableFuture<Void>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer timer = publishTimer(operation);
+        CompletableFuture<Void> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            sample.stop(timer);
+            throw e;
+        }
+        return future.whenComplete((ignored, failure) -> sample.stop(timer));
+    }
+
+    private Timer publishTimer(String operation) {
+        return Timer.builder("outbox.publish.latency")
+            .description("Time spent publishing outbox messages")
+            .tag("operation", operation)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String description, String operation) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private double oldestPendingAgeSeconds() {
+        Instant oldest = oldestPendingCreatedAt;
+        return oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+    }
+}
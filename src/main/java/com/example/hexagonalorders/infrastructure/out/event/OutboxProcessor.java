@@ -1,15 +1,31 @@
 package com.example.hexagonalorders.infrastructure.out.event;
 
 import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.port.out.DeliverySkippedException;
 import com.example.hexagonalorders.domain.port.out.MessagePublisher;
+import com.example.hexagonalorders.domain.port.out.OutboundMessage;
 import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import com.example.hexagonalorders.domain.port.out.PublishResult;
+import com.example.hexagonalorders.domain.port.out.ScheduledRetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Component responsible for processing outbox messages and publishing them to external systems.
@@ -19,55 +35,320 @@ import java.util.List;
 public class OutboxProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxProcessor.class);
-    private static final int BATCH_SIZE = 10;
 
     private final OutboxRepository outboxRepository;
     private final MessagePublisher messagePublisher;
+    private final OutboxRetryPolicy retryPolicy;
+    private final OutboxMetrics metrics;
+    private final OutboxPublishingLanes publishingLanes;
+    private final OutboxPublishingPipeline publishingPipeline;
+    private final boolean pipelined;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final String owner;
+    private final long pollIntervalMs;
+    private final long maxPollBackoffMs;
 
-    public OutboxProcessor(OutboxRepository outboxRepository, MessagePublisher messagePublisher) {
+    // Only one drain runs per instance at a time, so batches of this owner never overlap
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile long currentPollBackoffMs;
+    private volatile long nextPollAt;
+    // Completions reported by the pipeline, acknowledged in bulk by the draining thread
+    private final Queue<UUID> completedIds = new ConcurrentLinkedQueue<>();
+    private final Queue<FailedDelivery> failedDeliveries = new ConcurrentLinkedQueue<>();
+
+    public OutboxProcessor(OutboxRepository outboxRepository,
+                           MessagePublisher messagePublisher,
+                           OutboxRetryPolicy retryPolicy,
+                           OutboxMetrics metrics,
+                           OutboxPublishingLanes publishingLanes,
+                           OutboxPublishingPipeline publishingPipeline,
+                           @Value("${outbox.pipeline.enabled:false}") boolean pipelined,
+                           @Value("${outbox.batch-size:10}") int batchSize,
+                           @Value("${outbox.lease.ms:30000}") long leaseMs,
+                           @Value("${outbox.owner:}") String owner,
+                           @Value("${outbox.poll.ms:1000}") long pollIntervalMs,
+                           @Value("${outbox.poll.max-backoff.ms:30000}") long maxPollBackoffMs) {
         this.outboxRepository = outboxRepository;
         this.messagePublisher = messagePublisher;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
+        this.publishingLanes = publishingLanes;
+        this.publishingPipeline = publishingPipeline;
+        this.pipelined = pipelined;
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        // Default to "pid@host", which is unique per running instance
+        this.owner = owner.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : owner;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxPollBackoffMs = Math.max(pollIntervalMs, maxPollBackoffMs);
+        this.currentPollBackoffMs = pollIntervalMs;
     }
 
     /**
-     * Scheduled task that processes pending outbox messages.
+     * Scheduled safety net that drains messages the commit-triggered {@link OutboxDispatcher}
+     * did not handle (e.g. messages written by another instance or left behind by a crash).
      * This method runs at a fixed delay defined by the outbox.poll.ms property (defaults to 1000ms).
+     * While the outbox stays empty the effective interval doubles on every idle poll, up to
+     * outbox.poll.max-backoff.ms, and resets as soon as a poll finds work.
      */
     @Scheduled(fixedDelayString = "${outbox.poll.ms:1000}")
-    public void processOutboxMessages() {
-        List<OutboxMessage> pendingMessages = outboxRepository.findPending(BATCH_SIZE);
+    public void pollOutbox() {
+        if (System.currentTimeMillis() < nextPollAt || !drainLock.tryLock()) {
+            return;
+        }
+        try {
+            int processed = drain();
+            currentPollBackoffMs = processed > 0
+                ? pollIntervalMs
+                : Math.min(currentPollBackoffMs * 2, maxPollBackoffMs);
+            // The scheduler already waits pollIntervalMs between invocations
+            nextPollAt = System.currentTimeMillis() + currentPollBackoffMs - pollIntervalMs;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * @return the effective interval between polls, for tests
+     */
+    long pollBackoffMs() {
+        return currentPollBackoffMs;
+    }
+
+    /**
+     * Processes pending outbox messages until none are left.
+     * 
+     * @return the number of messages processed
+     */
+    public int processOutboxMessages() {
+        drainLock.lock();
+        try {
+            return drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Claims and publishes batches until a batch comes back smaller than the batch size.
+     * In pipelined mode, it then waits for the messages still in flight and acknowledges them.
+     */
+    private int drain() {
+        int total = 0;
+        int processed;
+        do {
+            processed = pipelined ? submitBatch() : processBatch();
+            total += processed;
+        } while (processed == batchSize);
+        if (pipelined) {
+            awaitPipeline();
+        }
+        return total;
+    }
+
+    /**
+     * Claims the next batch of messages for this owner.
+     */
+    private List<OutboxMessage> claimBatch() {
+        List<OutboxMessage> messages = metrics.timeDb("claimPending",
+            () -> outboxRepository.claimPending(owner, batchSize, leaseDuration));
+        if (!messages.isEmpty()) {
+            metrics.recordBatch(messages.size());
+        }
+        return messages;
+    }
+
+    /**
+     * Claims and publishes one batch of outbox messages.
+     * Messages are claimed with a lease so that several instances can drain the outbox
+     * concurrently without publishing the same message twice. The batch is published on the
+     * {@link OutboxPublishingLanes}, which keeps each aggregate's messages in order while
+     * publishing unrelated aggregates in parallel, and each lane hands its whole slice to
+     * {@link MessagePublisher#publishBatch}. Successfully published
+     * messages are acknowledged with one bulk update; failed ones are rescheduled
+     * according to the {@link OutboxRetryPolicy}, again with one write per outcome.
+     * 
+     * @return the number of messages claimed
+     */
+    private int processBatch() {
+        List<OutboxMessage> pendingMessages = claimBatch();
         
         if (!pendingMessages.isEmpty()) {
             log.info("Processing {} outbox messages", pendingMessages.size());
             
-            pendingMessages.forEach(this::processMessage);
+            Map<UUID, Exception> failures = publishingLanes.publish(pendingMessages, this::publishBatch);
+            List<UUID> processedIds = new ArrayList<>(pendingMessages.size());
+            List<FailedDelivery> failedDeliveries = new ArrayList<>(failures.size());
+            for (OutboxMessage message : pendingMessages) {
+                Exception failure = failures.get(message.id());
+                if (failure == null) {
+                    processedIds.add(message.id());
+                } else {
+                    failedDeliveries.add(new FailedDelivery(message, failure));
+                }
+            }
+            
+            if (!processedIds.isEmpty()) {
+                metrics.timeDb("markProcessed", () -> outboxRepository.markProcessed(processedIds));
+            }
+            handleFailures(failedDeliveries);
         }
+        return pendingMessages.size();
     }
 
     /**
-     * Processes a single outbox message.
-     * This method is transactional to ensure consistent state.
+     * Claims one batch of outbox messages and submits it to the {@link OutboxPublishingPipeline}
+     * without waiting for the broker. Messages that completed in the meantime, from this or
+     * earlier batches, are acknowledged in bulk before returning.
+     * 
+     * @return the number of messages claimed
      */
-    @Transactional
-    public void processMessage(OutboxMessage message) {
+    private int submitBatch() {
+        List<OutboxMessage> pendingMessages = claimBatch();
+        
+        if (!pendingMessages.isEmpty()) {
+            log.info("Submitting {} outbox messages", pendingMessages.size());
+            try {
+                for (OutboxMessage message : pendingMessages) {
+                    publishingPipeline.submit(message, this::publishMessageAsync, this::onPublished);
+                }
+            } catch (InterruptedException e) {
+                // Unsubmitted messages keep their lease and are claimed again once it expires
+                Thread.currentThread().interrupt();
+            }
+        }
+        acknowledgeCompleted();
+        return pendingMessages.size();
+    }
+
+    private void awaitPipeline() {
         try {
-            log.debug("Publishing message: {}", message.id());
-            
-            // Publish the message to the external system
-            messagePublisher.publish(
-                message.aggregateType() + "." + message.eventType(),
-                message.payload()
-            );
-            
-            // Mark the message as processed
-            outboxRepository.markProcessed(message.id());
-            
-            log.debug("Message published successfully: {}", message.id());
+            publishingPipeline.awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        acknowledgeCompleted();
+        // Every failure of the drain has been acknowledged; from here on claims hold back the
+        // later messages of its aggregate
+        publishingPipeline.clearFailures();
+    }
+
+    private void onPublished(OutboxMessage message, Throwable failure) {
+        if (failure == null) {
+            completedIds.add(message.id());
+        } else {
+            failedDeliveries.add(new FailedDelivery(message, failure));
+        }
+    }
+
+    /**
+     * Acknowledges the messages the pipeline completed so far: successes with one bulk
+     * update, failures in bulk according to the {@link OutboxRetryPolicy}.
+     */
+    private void acknowledgeCompleted() {
+        List<UUID> processedIds = new ArrayList<>();
+        UUID id;
+        while ((id = completedIds.poll()) != null) {
+            processedIds.add(id);
+        }
+        if (!processedIds.isEmpty()) {
+            metrics.timeDb("markProcessed", () -> outboxRepository.markProcessed(processedIds));
+        }
+        
+        List<FailedDelivery> failures = new ArrayList<>();
+        FailedDelivery failed;
+        while ((failed = failedDeliveries.poll()) != null) {
+            failures.add(failed);
+        }
+        handleFailures(failures);
+    }
+
+    /**
+     * Publishes a slice of a batch with a single {@link MessagePublisher#publishBatch} call.
+     * If the call itself fails, every message of the slice counts as failed.
+     * 
+     * @return the failures by message ID
+     */
+    private Map<UUID, Exception> publishBatch(List<OutboxMessage> messages) {
+        List<OutboundMessage> outbound = messages.stream()
+            .map(message -> new OutboundMessage(
+                message.id(),
+                String.valueOf(message.aggregateId()),
+                topicFor(message),
+                message.body()))
+            .toList();
+        
+        Map<UUID, Exception> failures = new HashMap<>();
+        try {
+            List<PublishResult> results = metrics.timePublish("publishBatch", () -> messagePublisher.publishBatch(outbound));
+            for (PublishResult result : results) {
+                if (!result.succeeded()) {
+                    failures.put(result.id(), result.failure());
+                }
+            }
         } catch (Exception e) {
-            log.error("Failed to process outbox message: {}", message.id(), e);
-            
-            // Mark the message as failed
-            outboxRepository.markFailed(message.id());
+            messages.forEach(message -> failures.put(message.id(), e));
         }
+        return failures;
+    }
+
+    private CompletableFuture<Void> publishMessageAsync(OutboxMessage message) {
+        log.debug("Publishing message asynchronously: {}", message.id());
+        return metrics.timePublishAsync("publishAsync",
+            () -> messagePublisher.publishAsync(topicFor(message), message.body()));
     }
-} 
\ No newline at end of file
+
+    private static String topicFor(OutboxMessage message) {
+        return message.aggregateType() + "." + message.eventType();
+    }
+
+    /**
+     * Schedules another attempt for messages whose delivery failed, or moves them to the
+     * dead-letter status once the retry policy allows no further attempts. Each outcome is
+     * written in bulk: the retries in one batch, the dead letters in one update per error.
+     * A message that was skipped because an earlier message of its aggregate failed was never
+     * attempted; it is released without counting an attempt, and claims hold it back until
+     * the earlier message has been delivered.
+     */
+    private void handleFailures(List<FailedDelivery> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        List<UUID> skippedIds = new ArrayList<>();
+        List<ScheduledRetry> retries = new ArrayList<>();
+        Map<String, List<UUID>> deadLetters = new LinkedHashMap<>();
+        Instant now = Instant.now();
+        for (FailedDelivery failed : failures) {
+            OutboxMessage message = failed.message();
+            if (failed.failure() instanceof DeliverySkippedException) {
+                log.debug("Outbox message {} was skipped after an earlier failure of its aggregate", message.id());
+                skippedIds.add(message.id());
+                continue;
+            }
+            int failedAttempts = message.attempts() + 1;
+            String error = failed.failure().toString();
+            if (retryPolicy.shouldRetry(failedAttempts)) {
+                Duration backoff = retryPolicy.backoff(failedAttempts);
+                log.warn("Failed to publish outbox message {} (attempt {}), retrying in {} ms: {}",
+                         message.id(), failedAttempts, backoff.toMillis(), error);
+                retries.add(new ScheduledRetry(message.id(), error, now.plus(backoff)));
+            } else {
+                log.error("Failed to publish outbox message {} after {} attempts, moving it to dead letter",
+                          message.id(), failedAttempts, failed.failure());
+                deadLetters.computeIfAbsent(error, key -> new ArrayList<>()).add(message.id());
+            }
+        }
+        
+        if (!skippedIds.isEmpty()) {
+            metrics.timeDb("release", () -> outboxRepository.release(skippedIds));
+        }
+        if (!retries.isEmpty()) {
+            metrics.timeDb("scheduleRetries", () -> outboxRepository.scheduleRetries(retries));
+        }
+        deadLetters.forEach((error, ids) ->
+            metrics.timeDb("markDeadLetter", () -> outboxRepository.markDeadLetter(ids, error)));
+    }
+
+    private record FailedDelivery(OutboxMessage message, Throwable failure) {}
+}
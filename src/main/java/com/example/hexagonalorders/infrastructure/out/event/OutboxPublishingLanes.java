@@ -0,0 +1,159 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Publishes outbox messages on a fixed number of parallel lanes.
+ * Each message is routed to a lane by hashing its aggregate ID, and every lane is served by a
+ * single worker thread, so messages of one aggregate are published strictly in order while
+ * unrelated aggregates are published in parallel. Lanes are synchronous per batch: a batch is
+ * handed to the lanes as one slice per lane, and {@link #publish} returns once every slice is
+ * handled, so a lane never holds more than one slice and the drain claims the next batch only
+ * after the current one is published.
+ * 
+ * Per-lane metrics:
+ * - outbox.lane.pending: messages of the current slice not yet published
+ * - outbox.lane.messages: messages handled by the lane, tagged by outcome
+ */
+@Component
+public class OutboxPublishingLanes {
+
+    private final List<Lane> lanes;
+
+    public OutboxPublishingLanes(@Value("${outbox.lanes.count:4}") int laneCount,
+                                 MeterRegistry meterRegistry) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be at least 1");
+        }
+        this.lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new Lane(i, meterRegistry));
+        }
+    }
+
+    /**
+     * Publishes a batch of messages on the lanes and waits until all of them are handled.
+     * The batch is split into one slice per lane, keeping the batch order within each slice,
+     * and every lane hands its slice to the publisher in a single call.
+     * 
+     * @param messages the messages to publish
+     * @param publisher publishes a slice and returns the failures by message ID
+     * @return the failures by message ID; messages that are absent were published successfully
+     */
+    public Map<UUID, Exception> publish(List<OutboxMessage> messages,
+                                        Function<List<OutboxMessage>, Map<UUID, Exception>> publisher) {
+        List<List<OutboxMessage>> slices = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            slices.add(new ArrayList<>());
+        }
+        for (OutboxMessage message : messages) {
+            slices.get(laneFor(message)).add(message);
+        }
+        
+        List<CompletableFuture<Map<UUID, Exception>>> results = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            List<OutboxMessage> slice = slices.get(i);
+            if (!slice.isEmpty()) {
+                results.add(lanes.get(i).submit(slice, publisher));
+            }
+        }
+        
+        Map<UUID, Exception> failures = new LinkedHashMap<>();
+        for (CompletableFuture<Map<UUID, Exception>> result : results) {
+            failures.putAll(result.join());
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the number of lanes.
+     */
+    public int laneCount() {
+        return lanes.size();
+    }
+
+    private int laneFor(OutboxMessage message) {
+        return message.aggregateId() == null ? 0 : Math.floorMod(message.aggregateId().hashCode(), lanes.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes) {
+            if (!lane.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                lane.executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * A single-threaded worker that publishes one slice at a time.
+     */
+    private static final class Lane {
+        private final ThreadPoolExecutor executor;
+        private final AtomicInteger pendingMessages = new AtomicInteger();
+        private final Counter succeeded;
+        private final Counter failed;
+
+        Lane(int index, MeterRegistry meterRegistry) {
+            // Never holds more than the one slice of the current batch
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-lane-" + index);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            String lane = String.valueOf(index);
+            Gauge.builder("outbox.lane.pending", pendingMessages, AtomicInteger::get)
+                .description("Messages of the current slice not yet published by the outbox lane")
+                .tag("lane", lane)
+                .register(meterRegistry);
+            this.succeeded = Counter.builder("outbox.lane.messages")
+                .description("Messages handled by the outbox lane")
+                .tag("lane", lane)
+                .tag("outcome", "success")
+                .register(meterRegistry);
+            this.failed = Counter.builder("outbox.lane.messages")
+                .description("Messages handled by the outbox lane")
+                .tag("lane", lane)
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        }
+
+        CompletableFuture<Map<UUID, Exception>> submit(List<OutboxMessage> slice,
+                                                       Function<List<OutboxMessage>, Map<UUID, Exception>> publisher) {
+            pendingMessages.addAndGet(slice.size());
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Map<UUID, Exception> failures = publisher.apply(slice);
+                    failed.increment(failures.size());
+                    succeeded.increment(slice.size() - failures.size());
+                    return failures;
+                } finally {
+                    pendingMessages.addAndGet(-slice.size());
+                }
+            }, executor);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.port.out.DeliverySkippedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Publishes outbox messages asynchronously with a bounded number of messages in flight.
+ * Submitting a message blocks while outbox.pipeline.window messages are still awaiting the
+ * broker, so a slow broker throttles the outbox drain instead of piling up futures.
+ * A message is only sent after the previous message of the same aggregate has completed,
+ * which keeps each aggregate in order even across batches; if that message failed, the
+ * later one is not sent and completes with a {@link DeliverySkippedException}. An aggregate
+ * stays marked as failed until {@link #clearFailures()} is called, so a message submitted
+ * after the failed one has already completed is skipped as well.
+ * 
+ * Metrics:
+ * - outbox.pipeline.in-flight: messages submitted and not yet completed
+ */
+@Component
+public class OutboxPublishingPipeline {
+
+    private final int windowSize;
+    private final Semaphore window;
+    // Last submitted message per aggregate; entries are removed once they complete
+    private final Map<UUID, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    // Aggregates with a failed message since the last clearFailures; marked before the tail is removed
+    private final Set<UUID> failedAggregates = ConcurrentHashMap.newKeySet();
+
+    public OutboxPublishingPipeline(@Value("${outbox.pipeline.window:256}") int windowSize,
+                                    MeterRegistry meterRegistry) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Pipeline window must be at least 1");
+        }
+        this.windowSize = windowSize;
+        this.window = new Semaphore(windowSize);
+        Gauge.builder("outbox.pipeline.in-flight", window, w -> windowSize - w.availablePermits())
+            .description("Outbox messages submitted to the publishing pipeline and not yet completed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Submits a message, blocking while the window is full.
+     * 
+     * @param message the message to publish
+     * @param sender starts publishing a message and returns a future for its completion
+     * @param onComplete called once the message completed, with null or the failure
+     * @throws InterruptedException if interrupted while waiting for room in the window
+     */
+    public void submit(OutboxMessage message,
+                       Function<OutboxMessage, CompletableFuture<Void>> sender,
+                       BiConsumer<OutboxMessage, Throwable> onComplete) throws InterruptedException {
+        window.acquire();
+        UUID aggregateId = message.aggregateId();
+        // The tail is read before the failure mark: a tail that is already gone has marked its failure
+        CompletableFuture<Void> previous = aggregateId == null ? null : tails.get(aggregateId);
+        
+        CompletableFuture<Void> current;
+        if (previous == null) {
+            current = aggregateId != null && failedAggregates.contains(aggregateId)
+                ? CompletableFuture.failedFuture(new DeliverySkippedException(aggregateId.toString()))
+                : send(message, sender);
+        } else {
+            current = previous.handle((ignored, failure) -> failure)
+                .thenCompose(failure -> failure == null
+                    ? send(message, sender)
+                    : CompletableFuture.failedFuture(new DeliverySkippedException(aggregateId.toString())));
+        }
+        if (aggregateId != null) {
+            tails.put(aggregateId, current);
+        }
+        
+        current.whenComplete((ignored, failure) -> {
+            try {
+                if (failure != null && aggregateId != null) {
+                    failedAggregates.add(aggregateId);
+                }
+                onComplete.accept(message, unwrap(failure));
+            } finally {
+                if (aggregateId != null) {
+                    tails.remove(aggregateId, current);
+                }
+                window.release();
+            }
+        });
+    }
+
+    /**
+     * Forgets which aggregates had a failed message. Call it only while nothing is in flight
+     * and once the failures have been acknowledged, so that their retries are scheduled.
+     */
+    public void clearFailures() {
+        failedAggregates.clear();
+    }
+
+    /**
+     * Waits until every submitted message has completed.
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitIdle() throws InterruptedException {
+        window.acquire(windowSize);
+        window.release(windowSize);
+    }
+
+    private static CompletableFuture<Void> send(OutboxMessage message,
+                                                Function<OutboxMessage, CompletableFuture<Void>> sender) {
+        try {
+            CompletableFuture<Void> future = sender.apply(message);
+            return future != null ? future : CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
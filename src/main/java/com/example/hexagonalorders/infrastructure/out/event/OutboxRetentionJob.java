@@ -0,0 +1,109 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxPartitionRepository;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Component that removes outbox messages once they have been kept for their retention window.
+ * Each terminal status has its own window; a window of 0 keeps messages of that status forever.
+ * Where the outbox is partitioned by day (PostgreSQL), whole partitions are dropped once all
+ * their messages have expired, and the partitions for the next outbox.retention.partitions-ahead.days
+ * days are created in advance. Elsewhere (H2) expired messages are deleted in chunks of
+ * outbox.retention.batch-size, each in its own short transaction, so the purge never holds
+ * long locks on the outbox while it catches up.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetentionJob.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxPartitionRepository partitionRepository;
+    private final Map<OutboxStatus, Duration> retention = new EnumMap<>(OutboxStatus.class);
+    private final int batchSize;
+    private final int partitionsAheadDays;
+
+    public OutboxRetentionJob(OutboxRepository outboxRepository,
+                              OutboxPartitionRepository partitionRepository,
+                              @Value("${outbox.retention.processed.ms:604800000}") long processedMs,
+                              @Value("${outbox.retention.dead-letter.ms:2592000000}") long deadLetterMs,
+                              @Value("${outbox.retention.failed.ms:2592000000}") long failedMs,
+                              @Value("${outbox.retention.batch-size:1000}") int batchSize,
+                              @Value("${outbox.retention.partitions-ahead.days:7}") int partitionsAheadDays) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Retention batch size must be at least 1");
+        }
+        if (partitionsAheadDays < 1) {
+            throw new IllegalArgumentException("Partitions must be created at least 1 day ahead");
+        }
+        this.outboxRepository = outboxRepository;
+        this.partitionRepository = partitionRepository;
+        this.batchSize = batchSize;
+        this.partitionsAheadDays = partitionsAheadDays;
+        addRetention(OutboxStatus.PROCESSED, processedMs);
+        addRetention(OutboxStatus.DEAD_LETTER, deadLetterMs);
+        addRetention(OutboxStatus.FAILED, failedMs);
+    }
+
+    private void addRetention(OutboxStatus status, long retentionMs) {
+        if (retentionMs > 0) {
+            retention.put(status, Duration.ofMillis(retentionMs));
+        }
+    }
+
+    /**
+     * Removes all messages whose retention window has expired.
+     * This method runs at a fixed delay defined by the outbox.retention.interval.ms property
+     * (defaults to one hour).
+     * 
+     * @return the number of messages removed
+     */
+    @Scheduled(fixedDelayString = "${outbox.retention.interval.ms:3600000}")
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        Map<OutboxStatus, Instant> expiredBefore = new EnumMap<>(OutboxStatus.class);
+        retention.forEach((status, window) -> expiredBefore.put(status, now.minus(window)));
+        int total = partitionRepository.isPartitioned()
+            ? dropExpiredPartitions(expiredBefore, now)
+            : deleteExpired(expiredBefore);
+        if (total > 0) {
+            log.info("Removed {} expired outbox messages", total);
+        }
+        return total;
+    }
+
+    private int dropExpiredPartitions(Map<OutboxStatus, Instant> expiredBefore, Instant now) {
+        partitionRepository.createPartitionsUntil(LocalDate.ofInstant(now, ZoneOffset.UTC).plusDays(partitionsAheadDays));
+        return partitionRepository.dropExpiredPartitions(expiredBefore, now);
+    }
+
+    /**
+     * Fallback for an outbox that is not partitioned: deletes expired messages in chunks.
+     */
+    private int deleteExpired(Map<OutboxStatus, Instant> expiredBefore) {
+        int total = 0;
+        for (Map.Entry<OutboxStatus, Instant> entry : expiredBefore.entrySet()) {
+            int deleted;
+            do {
+                deleted = outboxRepository.deleteProcessedBefore(entry.getKey(), entry.getValue(), batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+        }
+        return total;
+    }
+}
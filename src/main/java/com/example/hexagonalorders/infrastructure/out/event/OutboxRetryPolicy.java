@@ -0,0 +1,63 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for outbox messages whose delivery failed.
+ * The delay before attempt n+1 grows exponentially with the number of failed attempts n,
+ * is capped at a maximum and randomized by a jitter factor so that messages which failed
+ * together (e.g. during a broker outage) do not all retry at the same instant.
+ */
+@Component
+public class OutboxRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final double multiplier;
+    private final long maxBackoffMs;
+    private final double jitter;
+
+    public OutboxRetryPolicy(@Value("${outbox.retry.max-attempts:10}") int maxAttempts,
+                             @Value("${outbox.retry.initial-backoff.ms:1000}") long initialBackoffMs,
+                             @Value("${outbox.retry.multiplier:2.0}") double multiplier,
+                             @Value("${outbox.retry.max-backoff.ms:300000}") long maxBackoffMs,
+                             @Value("${outbox.retry.jitter:0.2}") double jitter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.multiplier = multiplier;
+        this.maxBackoffMs = maxBackoffMs;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Decides whether a message may be attempted again.
+     * 
+     * @param failedAttempts the number of failed attempts including the one that just failed
+     * @return true if another attempt is allowed
+     */
+    public boolean shouldRetry(int failedAttempts) {
+        return failedAttempts < maxAttempts;
+    }
+
+    /**
+     * Computes the delay before the next attempt.
+     * 
+     * @param failedAttempts the number of failed attempts including the one that just failed
+     * @return the delay before the next attempt
+     */
+    public Duration backoff(int failedAttempts) {
+        double delay = initialBackoffMs * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+        delay = Math.min(delay, maxBackoffMs);
+        if (jitter > 0) {
+            delay *= 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return Duration.ofMillis(Math.max(0, Math.round(delay)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * On-disk layout shared by the {@link MappedLogPublisher} and the {@link MappedLogReader}.
+ * 
+ * A topic is a directory of segment files named after the offset of their first record.
+ * Offsets are logical byte positions across the whole topic, so a segment that is rolled at
+ * offset N is followed by the segment named N. Each record is laid out as:
+ * 
+ * - int: length of the rest of the record (written last, so a non-zero length marks a complete record)
+ * - short + bytes: content type (UTF-8)
+ * - short + bytes: content encoding (UTF-8)
+ * - bytes: payload data
+ * 
+ * Segments are pre-allocated and zero-filled, so a length of 0 marks the end of the written data.
+ */
+final class MappedLogFormat {
+
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private MappedLogFormat() {
+    }
+
+    static String segmentFileName(long baseOffset) {
+        return String.format(Locale.ROOT, "%020d%s", baseOffset, SEGMENT_SUFFIX);
+    }
+
+    static long baseOffsetOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Maps a topic to a directory name, replacing characters that are not safe in file names.
+     */
+    static String directoryName(String topic) {
+        return topic.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * Returns the number of bytes a record takes in a segment, including its length prefix.
+     */
+    static int recordSize(byte[] contentType, byte[] contentEncoding, byte[] data) {
+        return Integer.BYTES + Short.BYTES + contentType.length + Short.BYTES + contentEncoding.length + data.length;
+    }
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the record body that follows a length prefix.
+     */
+    static EncodedPayload readBody(ByteBuffer buffer, int length) {
+        int end = buffer.position() + length;
+        String contentType = readString(buffer);
+        String contentEncoding = readString(buffer);
+        byte[] data = new byte[end - buffer.position()];
+        buffer.get(data);
+        return new EncodedPayload(data, contentType, contentEncoding);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import com.example.hexagonalorders.domain.port.out.MessagePublisher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of MessagePublisher that appends messages to a local, append-only log.
+ * Each topic is a directory of memory-mapped segment files holding length-prefixed records
+ * (see {@link MappedLogFormat}). It gives local runs and performance tests a realistic
+ * high-throughput sink without a broker, and can serve as a durable stand-in for a broker
+ * on disconnected sites. Consumers read the log with a {@link MappedLogReader}.
+ * 
+ * Appended records are forced to disk after every messaging.mmap-log.flush-every-records
+ * records and every messaging.mmap-log.flush-interval-ms; setting either to 0 disables that
+ * trigger. Records that are not forced yet survive a crash of the application, but not of
+ * the operating system.
+ * 
+ * Enabled with the "mmap-log" profile.
+ */
+@Component
+@Profile("mmap-log")
+public class MappedLogPublisher implements MessagePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedLogPublisher.class);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int flushEveryRecords;
+    private final Map<String, MappedTopicLog> topics = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public MappedLogPublisher(@Value("${messaging.mmap-log.directory:${java.io.tmpdir}/hexagonal-orders/log}") Path directory,
+                              @Value("${messaging.mmap-log.segment-size:67108864}") int segmentSize,
+                              @Value("${messaging.mmap-log.flush-every-records:0}") int flushEveryRecords,
+                              @Value("${messaging.mmap-log.flush-interval-ms:1000}") long flushIntervalMs) {
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("Segment size must be at least 64 bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushEveryRecords = flushEveryRecords;
+        if (flushIntervalMs > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "mmap-log-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+        log.info("Publishing messages to memory-mapped log in {}", directory);
+    }
+
+    @Override
+    public void publish(String topic, EncodedPayload payload) {
+        topicLog(topic).append(payload);
+    }
+
+    /**
+     * Opens a reader on a topic.
+     * 
+     * @param topic the topic to read
+     * @param offset the offset to start reading from; 0 reads the topic from the start
+     * @return a reader positioned at the offset
+     */
+    public MappedLogReader openReader(String topic, long offset) {
+        return new MappedLogReader(topicDirectory(topic), offset);
+    }
+
+    /**
+     * Forces the records appended to all topics to disk.
+     */
+    public void flush() {
+        topics.values().forEach(topicLog -> {
+            try {
+                topicLog.flush();
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush memory-mapped log", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flush();
+    }
+
+    private MappedTopicLog topicLog(String topic) {
+        return topics.computeIfAbsent(topic,
+            name -> new MappedTopicLog(topicDirectory(name), segmentSize, flushEveryRecords));
+    }
+
+    private Path topicDirectory(String topic) {
+        return directory.resolve(MappedLogFormat.directoryName(topic));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+
+/**
+ * Tails one topic of a memory-mapped log written by the {@link MappedLogPublisher}.
+ * A reader starts at a given offset, typically one saved from {@link #offset()} by an earlier
+ * reader, and follows the log across segments as it grows. Readers are not thread-safe;
+ * use one reader per consuming thread.
+ */
+public class MappedLogReader {
+
+    private final Path directory;
+    private long offset;
+    private MappedByteBuffer segment;
+    private long segmentBaseOffset;
+
+    /**
+     * Creates a reader positioned at the given offset.
+     * 
+     * @param directory the directory of the topic
+     * @param offset the offset of the first record to read; 0 reads the topic from the start
+     */
+    public MappedLogReader(Path directory, long offset) {
+        this.directory = directory;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the offset of the next record to read.
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Reads up to the specified number of records without waiting for new ones.
+     * 
+     * @param maxRecords maximum number of records to return
+     * @return the records, in log order; empty if the reader has caught up
+     */
+    public List<MappedLogRecord> poll(int maxRecords) {
+        List<MappedLogRecord> records = new ArrayList<>();
+        while (records.size() < maxRecords) {
+            if (segment == null && !openSegmentContaining(offset)) {
+                break;
+            }
+            int position = (int) (offset - segmentBaseOffset);
+            int length = position + Integer.BYTES <= segment.capacity() ? segment.getInt(position) : 0;
+            if (length == 0) {
+                // Either the writer has not written further, or it rolled to the segment starting here
+                if (!openSegmentStartingAt(offset)) {
+                    break;
+                }
+                continue;
+            }
+            VarHandle.acquireFence();
+            
+            ByteBuffer record = segment.duplicate();
+            record.position(position + Integer.BYTES);
+            long nextOffset = offset + Integer.BYTES + length;
+            records.add(new MappedLogRecord(offset, nextOffset, MappedLogFormat.readBody(record, length)));
+            offset = nextOffset;
+        }
+        return records;
+    }
+
+    private boolean openSegmentContaining(long target) {
+        return findSegment(base -> base <= target).map(this::open).orElse(false);
+    }
+
+    private boolean openSegmentStartingAt(long target) {
+        if (target == segmentBaseOffset) {
+            return false;
+        }
+        return findSegment(base -> base == target).map(this::open).orElse(false);
+    }
+
+    private Optional<Path> findSegment(LongPredicate baseMatches) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(MappedLogFormat::isSegment)
+                .filter(file -> baseMatches.test(MappedLogFormat.baseOffsetOf(file)))
+                .max((a, b) -> Long.compare(MappedLogFormat.baseOffsetOf(a), MappedLogFormat.baseOffsetOf(b)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list topic log " + directory, e);
+        }
+    }
+
+    private boolean open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            segmentBaseOffset = MappedLogFormat.baseOffsetOf(file);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open segment " + file, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+/**
+ * A record read from a memory-mapped topic log.
+ * 
+ * @param offset the offset of the record
+ * @param nextOffset the offset to resume reading from after this record
+ * @param payload the payload as it was published
+ */
+public record MappedLogRecord(
+    long offset,
+    long nextOffset,
+    EncodedPayload payload
+) {}
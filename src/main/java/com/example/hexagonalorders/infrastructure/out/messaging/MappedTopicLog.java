@@ -0,0 +1,130 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * The append side of one topic of the {@link MappedLogPublisher}.
+ * Records are appended to the active segment; when a record does not fit, the segment is
+ * forced to disk and a new one is started at the current offset.
+ */
+final class MappedTopicLog {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int flushEveryRecords;
+
+    private MappedByteBuffer segment;
+    private long segmentBaseOffset;
+    private int unflushedRecords;
+
+    MappedTopicLog(Path directory, int segmentSize, int flushEveryRecords) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushEveryRecords = flushEveryRecords;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open topic log " + directory, e);
+        }
+    }
+
+    /**
+     * Opens the last segment and positions it after its last complete record.
+     */
+    private void recover() throws IOException {
+        Path last;
+        try (Stream<Path> files = Files.list(directory)) {
+            last = files.filter(MappedLogFormat::isSegment)
+                .max((a, b) -> Long.compare(MappedLogFormat.baseOffsetOf(a), MappedLogFormat.baseOffsetOf(b)))
+                .orElse(null);
+        }
+        if (last == null) {
+            openSegment(0);
+            return;
+        }
+        openSegment(MappedLogFormat.baseOffsetOf(last));
+        while (segment.remaining() >= Integer.BYTES) {
+            int length = segment.getInt(segment.position());
+            if (length == 0) {
+                break;
+            }
+            segment.position(segment.position() + Integer.BYTES + length);
+        }
+    }
+
+    private void openSegment(long baseOffset) throws IOException {
+        Path file = directory.resolve(MappedLogFormat.segmentFileName(baseOffset));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segmentBaseOffset = baseOffset;
+    }
+
+    /**
+     * Appends a record.
+     * 
+     * @return the offset of the record
+     */
+    synchronized long append(EncodedPayload payload) {
+        byte[] contentType = MappedLogFormat.utf8(payload.contentType());
+        byte[] contentEncoding = MappedLogFormat.utf8(payload.contentEncoding());
+        byte[] data = payload.data();
+        int size = MappedLogFormat.recordSize(contentType, contentEncoding, data);
+        if (size > segmentSize) {
+            throw new IllegalArgumentException(
+                "Record of " + size + " bytes does not fit in a segment of " + segmentSize + " bytes");
+        }
+        if (segment.remaining() < size) {
+            roll();
+        }
+        
+        int start = segment.position();
+        segment.position(start + Integer.BYTES);
+        segment.putShort((short) contentType.length).put(contentType);
+        segment.putShort((short) contentEncoding.length).put(contentEncoding);
+        segment.put(data);
+        // Publish the length only after the body, so readers never see a partial record
+        VarHandle.releaseFence();
+        segment.putInt(start, size - Integer.BYTES);
+        
+        unflushedRecords++;
+        if (flushEveryRecords > 0 && unflushedRecords >= flushEveryRecords) {
+            flush();
+        }
+        return segmentBaseOffset + start;
+    }
+
+    private void roll() {
+        long nextBaseOffset = segmentBaseOffset + segment.position();
+        segment.force();
+        try {
+            openSegment(nextBaseOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll topic log " + directory, e);
+        }
+        unflushedRecords = 0;
+    }
+
+    /**
+     * Forces the records appended so far to disk.
+     */
+    synchronized void flush() {
+        if (unflushedRecords > 0) {
+            segment.force();
+            unflushedRecords = 0;
+        }
+    }
+}
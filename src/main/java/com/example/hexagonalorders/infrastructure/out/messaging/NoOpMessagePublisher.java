@@ -1,24 +1,27 @@
 package com.example.hexagonalorders.infrastructure.out.messaging;
 
+import com.example.hexagonalorders.domain.model.EncodedPayload;
 import com.example.hexagonalorders.domain.port.out.MessagePublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
  * No-operation implementation of MessagePublisher that just logs messages.
  * This allows the application to run without a real message broker.
+ * It is replaced by the {@link MappedLogPublisher} or the {@link SimulatedBrokerPublisher}
+ * when the "mmap-log" or "simulated-broker" profile is active.
  */
 @Component
+@Profile("!mmap-log & !simulated-broker")
 public class NoOpMessagePublisher implements MessagePublisher {
     
     private static final Logger log = LoggerFactory.getLogger(NoOpMessagePublisher.class);
     
     @Override
-    public void publish(String topic, String payload) {
-        log.info("Would publish message to topic '{}': {}", topic, payload);
-
-        System.out.println("--> Would publish message to topic "+topic+" payload:"+payload);
-
+    public void publish(String topic, EncodedPayload payload) {
+        log.info("Would publish message to topic '{}': {} bytes of {} ({})",
+                 topic, payload.data().length, payload.contentType(), payload.contentEncoding());
     }
 } 
\ No newline at end of file
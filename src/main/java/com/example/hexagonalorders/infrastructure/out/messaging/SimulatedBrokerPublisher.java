@@ -0,0 +1,282 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import com.example.hexagonalorders.domain.port.out.MessagePublisher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of MessagePublisher that behaves like a remote broker, entirely in process.
+ * It is meant for reproducible throughput and tail-latency experiments with the outbox
+ * pipeline, including retry storms, without any external service.
+ * 
+ * Every publish is acknowledged after a simulated round trip drawn from the configured
+ * latency distribution (fixed, uniform or exponential above messaging.simulated-broker.latency.min-ms).
+ * A publish fails when:
+ * - the broker throttles it: more than messaging.simulated-broker.throttle.rate-per-second
+ *   publishes arrived in the current second
+ * - it hits the simulated failure rate
+ * - the topic queue is full: messaging.simulated-broker.queue-capacity messages are waiting
+ *   for the subscribers of the topic
+ * 
+ * Subscribers registered with {@link #subscribe(String, Consumer)} receive the messages of a
+ * topic in publish order on a delivery thread per topic; a slow subscriber therefore fills the
+ * queue and pushes back on the publisher.
+ * 
+ * The latency and failure of a publish are drawn from a random generator of its own, seeded
+ * from messaging.simulated-broker.seed, the topic, the payload and how often that payload was
+ * published to the topic since it was last accepted. A message therefore sees the same latency
+ * and failures on each of its attempts in every run, however the publishing threads interleave.
+ * Throttling and full queues depend on timing and are not repeatable.
+ * 
+ * Attempts are counted per topic and payload content, so payloads with equal hash codes keep
+ * separate counts. The count of a message that is never accepted expires
+ * {@link #ATTEMPT_RETENTION} after its last attempt, and at most {@link #MAX_TRACKED_MESSAGES}
+ * messages are tracked; a message whose count was dropped starts again from its first draw.
+ * 
+ * Enabled with the "simulated-broker" profile.
+ */
+@Component
+@Profile("simulated-broker")
+public class SimulatedBrokerPublisher implements MessagePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatedBrokerPublisher.class);
+
+    static final Duration ATTEMPT_RETENTION = Duration.ofMinutes(10);
+    static final long MAX_TRACKED_MESSAGES = 100_000;
+
+    /**
+     * Shapes of the simulated round-trip latency.
+     */
+    public enum LatencyDistribution {
+        FIXED, UNIFORM, EXPONENTIAL
+    }
+
+    private final LatencyDistribution latencyDistribution;
+    private final long minLatencyMs;
+    private final long meanLatencyMs;
+    private final double failureRate;
+    private final int ratePerSecond;
+    private final int queueCapacity;
+    private final long seed;
+    private final ScheduledExecutorService network;
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final Cache<MessageKey, Integer> attempts = Caffeine.newBuilder()
+        .expireAfterWrite(ATTEMPT_RETENTION)
+        .maximumSize(MAX_TRACKED_MESSAGES)
+        .build();
+
+    private long throttleWindowStart;
+    private int throttleWindowCount;
+
+    public SimulatedBrokerPublisher(@Value("${messaging.simulated-broker.latency.distribution:exponential}") String latencyDistribution,
+                                    @Value("${messaging.simulated-broker.latency.min-ms:1}") long minLatencyMs,
+                                    @Value("${messaging.simulated-broker.latency.mean-ms:5}") long meanLatencyMs,
+                                    @Value("${messaging.simulated-broker.failure-rate:0.0}") double failureRate,
+                                    @Value("${messaging.simulated-broker.throttle.rate-per-second:0}") int ratePerSecond,
+                                    @Value("${messaging.simulated-broker.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${messaging.simulated-broker.seed:42}") long seed) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        if (minLatencyMs < 0 || meanLatencyMs < minLatencyMs) {
+            throw new IllegalArgumentException("Latency must satisfy 0 <= min <= mean");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        this.latencyDistribution = LatencyDistribution.valueOf(latencyDistribution.toUpperCase());
+        this.minLatencyMs = minLatencyMs;
+        this.meanLatencyMs = meanLatencyMs;
+        this.failureRate = failureRate;
+        this.ratePerSecond = ratePerSecond;
+        this.queueCapacity = queueCapacity;
+        this.seed = seed;
+        this.network = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "simulated-broker-network");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Publishing messages to simulated broker ({} latency, min {} ms, mean {} ms, failure rate {})",
+                 this.latencyDistribution, minLatencyMs, meanLatencyMs, failureRate);
+    }
+
+    @Override
+    public void publish(String topic, EncodedPayload payload) {
+        try {
+            publishAsync(topic, payload).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String topic, EncodedPayload payload) {
+        CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+        if (!acquireThrottlePermit()) {
+            acknowledgement.completeExceptionally(new BrokerException("Throttled: more than "
+                + ratePerSecond + " publishes per second"));
+            return acknowledgement;
+        }
+        MessageKey messageKey = new MessageKey(topic, ByteBuffer.wrap(payload.data()));
+        int attempt = attempts.asMap().merge(messageKey, 1, Integer::sum);
+        SplittableRandom random = new SplittableRandom((seed * 31 + messageKey.hashCode()) * 31 + attempt);
+        long latencyMs = nextLatencyMs(random);
+        boolean failed = random.nextDouble() < failureRate;
+        network.schedule(() -> {
+            if (failed) {
+                acknowledgement.completeExceptionally(new BrokerException("Simulated broker failure"));
+            } else if (!topic(topic).queue.offer(payload)) {
+                acknowledgement.completeExceptionally(new BrokerException("Queue of topic " + topic
+                    + " is full (" + queueCapacity + " messages)"));
+            } else {
+                attempts.invalidate(messageKey);
+                acknowledgement.complete(null);
+            }
+        }, latencyMs, TimeUnit.MILLISECONDS);
+        return acknowledgement;
+    }
+
+    /**
+     * Subscribes to a topic. The consumer is called on the topic's delivery thread, in publish
+     * order, for every message accepted after the subscription.
+     * 
+     * @param topic the topic to consume
+     * @param consumer the consumer of the messages
+     * @return a handle that cancels the subscription when closed
+     */
+    public AutoCloseable subscribe(String topic, Consumer<EncodedPayload> consumer) {
+        List<Consumer<EncodedPayload>> subscribers = topic(topic).subscribers;
+        subscribers.add(consumer);
+        return () -> subscribers.remove(consumer);
+    }
+
+    /**
+     * Returns the number of messages of a topic waiting for delivery to its subscribers.
+     */
+    public int queueDepth(String topic) {
+        Topic existing = topics.get(topic);
+        return existing == null ? 0 : existing.queue.size();
+    }
+
+    /**
+     * Returns the number of messages whose attempts are being counted, that is messages
+     * published and not yet accepted.
+     */
+    long trackedMessages() {
+        attempts.cleanUp();
+        return attempts.estimatedSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        network.shutdownNow();
+        topics.values().forEach(topic -> topic.delivery.interrupt());
+    }
+
+    private synchronized boolean acquireThrottlePermit() {
+        if (ratePerSecond <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - throttleWindowStart >= TimeUnit.SECONDS.toNanos(1)) {
+            throttleWindowStart = now;
+            throttleWindowCount = 0;
+        }
+        return ++throttleWindowCount <= ratePerSecond;
+    }
+
+    private long nextLatencyMs(SplittableRandom random) {
+        long spread = meanLatencyMs - minLatencyMs;
+        return switch (latencyDistribution) {
+            case FIXED -> meanLatencyMs;
+            case UNIFORM -> minLatencyMs + Math.round(random.nextDouble() * 2 * spread);
+            case EXPONENTIAL -> minLatencyMs + Math.round(-Math.log(1 - random.nextDouble()) * spread);
+        };
+    }
+
+    private Topic topic(String name) {
+        Topic existing = topics.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Topic created = new Topic(name);
+        Topic raced = topics.putIfAbsent(name, created);
+        if (raced != null) {
+            return raced;
+        }
+        // Started outside the map update, and only for the topic that won a race to create it
+        created.delivery.start();
+        return created;
+    }
+
+    /**
+     * Identifies a message by topic and payload content; the buffer compares the bytes.
+     */
+    private record MessageKey(String topic, ByteBuffer data) {}
+
+    /**
+     * A topic with its bounded queue and delivery thread.
+     */
+    private final class Topic {
+        private final BlockingQueue<EncodedPayload> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final List<Consumer<EncodedPayload>> subscribers = new CopyOnWriteArrayList<>();
+        private final Thread delivery;
+
+        Topic(String name) {
+            this.delivery = new Thread(this::deliver, "simulated-broker-" + name);
+            delivery.setDaemon(true);
+        }
+
+        private void deliver() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    EncodedPayload payload = queue.take();
+                    for (Consumer<EncodedPayload> subscriber : subscribers) {
+                        try {
+                            subscriber.accept(payload);
+                        } catch (RuntimeException e) {
+                            log.warn("Subscriber failed to consume message", e);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Failure reported by the simulated broker.
+     */
+    public static class BrokerException extends RuntimeException {
+        public BrokerException(String message) {
+            super(message);
+        }
+    }
+}
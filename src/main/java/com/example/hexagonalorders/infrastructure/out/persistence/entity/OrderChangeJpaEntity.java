@@ -0,0 +1,40 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "order_changes",
+       indexes = @Index(name = "idx_order_changes_changed_at", columnList = "changed_at"))
+public class OrderChangeJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_changes_seq")
+    @SequenceGenerator(name = "order_changes_seq", sequenceName = "order_changes_seq", allocationSize = OrderJpaEntity.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "order_number", nullable = false)
+    private String orderNumber;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    protected OrderChangeJpaEntity() {
+    }
+
+    public OrderChangeJpaEntity(String orderNumber, Instant changedAt) {
+        this.orderNumber = orderNumber;
+        this.changedAt = changedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -4,10 +4,12 @@ import jakarta.persistence.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items",
+       indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id"))
 public class OrderItemJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = OrderJpaEntity.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
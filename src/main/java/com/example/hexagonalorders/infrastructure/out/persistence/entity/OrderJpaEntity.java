@@ -6,10 +6,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+       indexes = @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"))
 public class OrderJpaEntity {
+    /**
+     * Number of IDs reserved per sequence call. Must match the INCREMENT BY of the
+     * orders_seq and order_items_seq sequences.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -36,6 +44,10 @@ public class OrderJpaEntity {
     @Column(nullable = false)
     private String country;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItemJpaEntity> items = new ArrayList<>();
 
@@ -90,6 +102,14 @@ public class OrderJpaEntity {
     public String getCountry() { return country; }
     public void setCountry(String country) { this.country = country; }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<OrderItemJpaEntity> getItems() {
         return items;
     }
@@ -1,6 +1,8 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -8,9 +10,13 @@ import java.util.UUID;
 @Table(name = "outbox", 
        indexes = {
            @Index(name = "idx_outbox_idempotency", 
-                  columnList = "aggregate_id, event_type, created_at")
+                  columnList = "aggregate_id, event_type, created_at"),
+           @Index(name = "idx_outbox_status_next_attempt",
+                  columnList = "status, next_attempt_at"),
+           @Index(name = "idx_outbox_status_processed_at",
+                  columnList = "status, processed_at")
        })
-public class OutboxJpaEntity {
+public class OutboxJpaEntity implements Persistable<UUID> {
     
     @Id
     @Column(name = "id")
@@ -25,9 +31,14 @@ public class OutboxJpaEntity {
     @Column(name = "event_type", nullable = false)
     private String eventType;
     
-    @Lob
-    @Column(name = "payload", nullable = false)
-    private String payload;
+    @Column(name = "payload", nullable = false, length = MAX_PAYLOAD_LENGTH)
+    private byte[] payload;
+    
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+    
+    @Column(name = "content_encoding", nullable = false, length = 20)
+    private String contentEncoding;
     
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -39,11 +50,50 @@ public class OutboxJpaEntity {
     @Column(name = "processed_at")
     private Instant processedAt;
     
+    @Column(name = "locked_by")
+    private String lockedBy;
+    
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+    
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+    
+    /**
+     * Messages get their ID before they are saved, so Spring Data cannot tell a new message
+     * from its ID and would merge it, reading the row first. Until the entity is persisted or
+     * loaded it is new and is persisted without that read, which also lets the inserts of
+     * a transaction go to the database in JDBC batches.
+     */
+    @Transient
+    private boolean isNew = true;
+    
+    public static final int MAX_ERROR_LENGTH = 2000;
+    public static final int MAX_PAYLOAD_LENGTH = 1048576;
+    
     public enum OutboxStatusJpa {
-        PENDING, PROCESSED, FAILED
+        PENDING, IN_FLIGHT, PROCESSED, FAILED, DEAD_LETTER
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 
     // Getters and setters
+    @Override
     public UUID getId() {
         return id;
     }
@@ -76,14 +126,30 @@ public class OutboxJpaEntity {
         this.eventType = eventType;
     }
 
-    public String getPayload() {
+    public byte[] getPayload() {
         return payload;
     }
 
-    public void setPayload(String payload) {
+    public void setPayload(byte[] payload) {
         this.payload = payload;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
     public OutboxStatusJpa getStatus() {
         return status;
     }
@@ -107,4 +173,44 @@ public class OutboxJpaEntity {
     public void setProcessedAt(Instant processedAt) {
         this.processedAt = processedAt;
     }
-} 
\ No newline at end of file
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
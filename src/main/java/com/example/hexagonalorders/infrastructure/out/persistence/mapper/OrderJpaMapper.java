@@ -10,7 +10,12 @@ import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderJp
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderItemJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -33,6 +38,7 @@ public class OrderJpaMapper {
         jpaEntity.setCustomerId(order.getCustomerId());
         jpaEntity.setOrderDate(order.getOrderDate());
         jpaEntity.setStatus(toJpaOrderStatus(order.getStatus()));
+        jpaEntity.setVersion(order.getVersion());
         // Map shipping address fields
         ShippingAddress shippingAddress = order.getShippingAddress();
         if (shippingAddress != null) {
@@ -51,6 +57,57 @@ public class OrderJpaMapper {
         return jpaEntity;
     }
     
+    /**
+     * Applies the state of an order to its managed entity, touching only what differs so that
+     * Hibernate's dirty checking writes just the changed columns and rows.
+     * Items carry no identity in the domain, so each item is matched to an existing line with the
+     * same product number; matched lines are updated in place, unmatched items are added and
+     * lines left over are removed.
+     * 
+     * @param order the order to apply
+     * @param jpaEntity the managed entity of the same order
+     */
+    public void updateJpaEntity(Order order, OrderJpaEntity jpaEntity) {
+        jpaEntity.setCustomerId(order.getCustomerId());
+        jpaEntity.setOrderDate(order.getOrderDate());
+        jpaEntity.setStatus(toJpaOrderStatus(order.getStatus()));
+        ShippingAddress shippingAddress = order.getShippingAddress();
+        if (shippingAddress != null) {
+            jpaEntity.setStreet(shippingAddress.getStreet());
+            jpaEntity.setCity(shippingAddress.getCity());
+            jpaEntity.setState(shippingAddress.getState());
+            jpaEntity.setPostalCode(shippingAddress.getPostalCode());
+            jpaEntity.setCountry(shippingAddress.getCountry());
+        }
+        
+        Map<String, Deque<OrderItemJpaEntity>> existingByProduct = new HashMap<>();
+        for (OrderItemJpaEntity existing : jpaEntity.getItems()) {
+            existingByProduct.computeIfAbsent(existing.getProductNumber(), key -> new ArrayDeque<>()).add(existing);
+        }
+        for (OrderItem item : order.getItems()) {
+            Deque<OrderItemJpaEntity> candidates = existingByProduct.get(item.getProductNumber().value());
+            OrderItemJpaEntity existing = candidates == null ? null : candidates.poll();
+            if (existing == null) {
+                jpaEntity.getItems().add(toJpaEntity(item, jpaEntity));
+                continue;
+            }
+            if (!existing.getQuantity().equals(item.getQuantity().value())) {
+                existing.setQuantity(item.getQuantity().value());
+            }
+            if (existing.getUnitPrice().compareTo(item.getUnitPrice()) != 0) {
+                existing.setUnitPrice(item.getUnitPrice());
+            }
+        }
+        // Lines that no item matched are deleted through orphan removal
+        for (Iterator<OrderItemJpaEntity> it = jpaEntity.getItems().iterator(); it.hasNext(); ) {
+            OrderItemJpaEntity existing = it.next();
+            Deque<OrderItemJpaEntity> leftovers = existingByProduct.get(existing.getProductNumber());
+            if (leftovers != null && leftovers.remove(existing)) {
+                it.remove();
+            }
+        }
+    }
+    
     private OrderItemJpaEntity toJpaEntity(OrderItem item, OrderJpaEntity order) {
         OrderItemJpaEntity jpaEntity = new OrderItemJpaEntity();
         jpaEntity.setProductNumber(item.getProductNumber().value());
@@ -78,7 +135,8 @@ public class OrderJpaMapper {
             jpaEntity.getOrderDate(),
             items,
             shippingAddress,
-            toDomainOrderStatus(jpaEntity.getStatus())
+            toDomainOrderStatus(jpaEntity.getStatus()),
+            jpaEntity.getVersion()
         );
     }
     
@@ -1,5 +1,6 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.mapper;
 
+import com.example.hexagonalorders.domain.model.EncodedPayload;
 import com.example.hexagonalorders.domain.model.OutboxMessage;
 import com.example.hexagonalorders.domain.model.OutboxStatus;
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
@@ -23,10 +24,17 @@ public class OutboxMessageMapper {
         entity.setAggregateType(message.aggregateType());
         entity.setAggregateId(message.aggregateId());
         entity.setEventType(message.eventType());
-        entity.setPayload(message.payload());
+        if (message.body() != null) {
+            entity.setPayload(message.body().data());
+            entity.setContentType(message.body().contentType());
+            entity.setContentEncoding(message.body().contentEncoding());
+        }
         entity.setStatus(mapStatus(message.status()));
         entity.setCreatedAt(message.createdAt());
         entity.setProcessedAt(message.processedAt());
+        entity.setAttempts(message.attempts());
+        entity.setNextAttemptAt(message.nextAttemptAt() != null ? message.nextAttemptAt() : message.createdAt());
+        entity.setLastError(message.lastError());
         return entity;
     }
 
@@ -42,32 +50,40 @@ public class OutboxMessageMapper {
             entity.getAggregateType(),
             entity.getAggregateId(),
             entity.getEventType(),
-            entity.getPayload(),
+            entity.getPayload() == null ? null : new EncodedPayload(
+                entity.getPayload(), entity.getContentType(), entity.getContentEncoding()),
             mapStatus(entity.getStatus()),
             entity.getCreatedAt(),
-            entity.getProcessedAt()
+            entity.getProcessedAt(),
+            entity.getAttempts(),
+            entity.getNextAttemptAt(),
+            entity.getLastError()
         );
     }
 
     /**
      * Maps domain OutboxStatus to JPA OutboxStatusJpa.
      */
-    private OutboxJpaEntity.OutboxStatusJpa mapStatus(OutboxStatus status) {
+    public OutboxJpaEntity.OutboxStatusJpa mapStatus(OutboxStatus status) {
         return switch (status) {
             case PENDING -> OutboxJpaEntity.OutboxStatusJpa.PENDING;
+            case IN_FLIGHT -> OutboxJpaEntity.OutboxStatusJpa.IN_FLIGHT;
             case PROCESSED -> OutboxJpaEntity.OutboxStatusJpa.PROCESSED;
             case FAILED -> OutboxJpaEntity.OutboxStatusJpa.FAILED;
+            case DEAD_LETTER -> OutboxJpaEntity.OutboxStatusJpa.DEAD_LETTER;
         };
     }
 
     /**
      * Maps JPA OutboxStatusJpa to domain OutboxStatus.
      */
-    private OutboxStatus mapStatus(OutboxJpaEntity.OutboxStatusJpa status) {
+    public OutboxStatus mapStatus(OutboxJpaEntity.OutboxStatusJpa status) {
         return switch (status) {
             case PENDING -> OutboxStatus.PENDING;
+            case IN_FLIGHT -> OutboxStatus.IN_FLIGHT;
             case PROCESSED -> OutboxStatus.PROCESSED;
             case FAILED -> OutboxStatus.FAILED;
+            case DEAD_LETTER -> OutboxStatus.DEAD_LETTER;
         };
     }
 } 
\ No newline at end of file
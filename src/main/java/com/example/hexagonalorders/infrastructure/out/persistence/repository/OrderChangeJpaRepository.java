@@ -0,0 +1,31 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderChangeJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the order change log.
+ * Both queries filter on changed_at, served by the changed_at index.
+ */
+public interface OrderChangeJpaRepository extends JpaRepository<OrderChangeJpaEntity, Long> {
+
+    /**
+     * Finds the changes recorded after the given time, oldest first.
+     */
+    List<OrderChangeJpaEntity> findByChangedAtAfterOrderByChangedAtAsc(Instant since);
+
+    /**
+     * Deletes the changes recorded before the given time.
+     * 
+     * @return the number of changes deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderChangeJpaEntity c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") Instant cutoff);
+}
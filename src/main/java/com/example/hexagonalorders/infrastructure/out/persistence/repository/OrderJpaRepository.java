@@ -1,13 +1,128 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.repository;
 
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Spring Data repository for orders.
+ * Reads that return orders fetch their items in the same query, so mapping an order to the
+ * domain never triggers a lazy load per order. The listing queries return IDs only and are
+ * followed by {@link #findAllWithItemsByIdIn(Collection)}, because row limits cannot be applied
+ * to a query that fetch-joins a collection.
+ */
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long> {
+    /**
+     * Number of rows the JDBC driver fetches per round trip when streaming orders.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    @EntityGraph(attributePaths = "items")
     Optional<OrderJpaEntity> findByOrderNumber(String orderNumber);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findByOrderNumberIn(Collection<String> orderNumbers);
+
     void deleteByOrderNumber(String orderNumber);
-} 
\ No newline at end of file
+
+    boolean existsByOrderNumber(String orderNumber);
+
+    /**
+     * Confirms the order if it is still PENDING. The version is incremented like any other
+     * update, so a concurrent save of the same order fails its optimistic lock check.
+     * 
+     * @return the number of orders confirmed, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderJpaEntity o SET o.status = CONFIRMED, o.version = o.version + 1 " +
+           "WHERE o.orderNumber = :orderNumber AND o.status = PENDING")
+    int confirmIfPending(@Param("orderNumber") String orderNumber);
+
+    /**
+     * Finds the status of the orders with the given order numbers and locks their rows until the
+     * end of the transaction, so the statuses stay valid for a following update of the same rows.
+     * Rows are locked in order number order, so concurrent callers with overlapping order numbers
+     * wait for each other instead of deadlocking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.orderNumber AS orderNumber, o.status AS status FROM OrderJpaEntity o " +
+           "WHERE o.orderNumber IN :orderNumbers ORDER BY o.orderNumber")
+    List<OrderStatusRow> lockStatusesByOrderNumberIn(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    /**
+     * Confirms those of the given orders that are still PENDING, incrementing their versions.
+     * 
+     * @return the number of orders confirmed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderJpaEntity o SET o.status = CONFIRMED, o.version = o.version + 1 " +
+           "WHERE o.orderNumber IN :orderNumbers AND o.status = PENDING")
+    int confirmAllIfPending(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    /**
+     * Finds the orders with the given IDs together with their items, sorted by order date and then by ID.
+     */
+    @Query("SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items " +
+           "WHERE o.id IN :ids " +
+           "ORDER BY o.orderDate ASC, o.id ASC")
+    List<OrderJpaEntity> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the IDs of the first orders of the listing, sorted by order date and then by ID.
+     */
+    @Query("SELECT o.id FROM OrderJpaEntity o ORDER BY o.orderDate ASC, o.id ASC")
+    List<Long> findFirstPageIds(Pageable pageable);
+
+    /**
+     * Finds the IDs of the orders that sort after the given order date and ID.
+     * The redundant lower bound on the order date lets the database seek straight to the
+     * cursor on the (order_date, id) index instead of filtering from the start.
+     */
+    @Query("SELECT o.id FROM OrderJpaEntity o " +
+           "WHERE o.orderDate >= :orderDate " +
+           "AND (o.orderDate > :orderDate OR o.id > :id) " +
+           "ORDER BY o.orderDate ASC, o.id ASC")
+    List<Long> findPageIdsAfter(@Param("orderDate") LocalDateTime orderDate,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    /**
+     * Streams the IDs of all orders sorted by order date and then by ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT o.id FROM OrderJpaEntity o ORDER BY o.orderDate ASC, o.id ASC")
+    Stream<Long> streamAllIds();
+
+    /**
+     * Streams the order numbers of all orders, in no particular order.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT o.orderNumber FROM OrderJpaEntity o")
+    Stream<String> streamAllOrderNumbers();
+
+    /**
+     * Projection of a {@link #lockStatusesByOrderNumberIn(Collection)} row.
+     */
+    interface OrderStatusRow {
+        String getOrderNumber();
+        OrderStatus getStatus();
+    }
+}
@@ -1,32 +1,75 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.repository;
 
 import com.example.hexagonalorders.domain.model.Order;
-import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderCursor;
 import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
-import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
-import com.example.hexagonalorders.domain.model.valueobject.Quantity;
 import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderStatus;
 import com.example.hexagonalorders.infrastructure.out.persistence.mapper.OrderJpaMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class OrderRepositoryAdapter implements OrderRepository {
+    /**
+     * Number of orders whose items are loaded with one query while streaming.
+     */
+    static final int STREAM_CHUNK_SIZE = 100;
+
     private final OrderJpaRepository orderJpaRepository;
     private final OrderJpaMapper orderJpaMapper;
+    private final EntityManager entityManager;
 
-    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderJpaMapper orderJpaMapper) {
+    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderJpaMapper orderJpaMapper,
+                                  EntityManager entityManager) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderJpaMapper = orderJpaMapper;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * Saves an order. A new order is inserted with its items; for an order that is already
+     * persisted, only the changed fields and the added or removed items are written, instead
+     * of merging a rebuilt graph that would replace every item.
+     * 
+     * @throws OptimisticLockingFailureException if the order was modified after it was read
+     */
     @Override
+    @Transactional
     public Order save(Order order) {
-        return orderJpaMapper.toDomain(orderJpaRepository.save(orderJpaMapper.toJpaEntity(order)));
+        OrderJpaEntity existing = order.getId() == null
+                ? null
+                : entityManager.find(OrderJpaEntity.class, order.getId());
+        if (existing == null) {
+            return orderJpaMapper.toDomain(orderJpaRepository.save(orderJpaMapper.toJpaEntity(order)));
+        }
+        if (order.getVersion() != null && !order.getVersion().equals(existing.getVersion())) {
+            throw new OptimisticLockingFailureException("Order " + order.getOrderNumber().value()
+                    + " was modified concurrently: expected version " + order.getVersion()
+                    + " but found " + existing.getVersion());
+        }
+        orderJpaMapper.updateJpaEntity(order, existing);
+        return orderJpaMapper.toDomain(existing);
     }
 
     @Override
@@ -36,12 +79,125 @@ public class OrderRepositoryAdapter implements OrderRepository {
     }
 
     @Override
-    public List<Order> findAll() {
-        return orderJpaRepository.findAll().stream()
+    @Transactional
+    public StatusTransition confirmIfPending(OrderNumber orderNumber) {
+        if (orderJpaRepository.confirmIfPending(orderNumber.value()) == 1) {
+            return StatusTransition.APPLIED;
+        }
+        // Only a failed confirmation pays for a second query to tell the two failures apart
+        return orderJpaRepository.existsByOrderNumber(orderNumber.value())
+                ? StatusTransition.INVALID_STATE
+                : StatusTransition.NOT_FOUND;
+    }
+
+    @Override
+    @Transactional
+    public Map<OrderNumber, StatusTransition> confirmAllIfPending(Collection<OrderNumber> orderNumbers) {
+        Map<OrderNumber, StatusTransition> transitions = new LinkedHashMap<>();
+        orderNumbers.forEach(orderNumber -> transitions.put(orderNumber, StatusTransition.NOT_FOUND));
+        if (transitions.isEmpty()) {
+            return transitions;
+        }
+        List<String> values = transitions.keySet().stream()
+                .map(OrderNumber::value)
+                .collect(Collectors.toList());
+        
+        // The rows stay locked until commit, so the update below confirms exactly the orders
+        // that were read as PENDING
+        List<String> pending = new ArrayList<>();
+        for (OrderJpaRepository.OrderStatusRow row : orderJpaRepository.lockStatusesByOrderNumberIn(values)) {
+            boolean isPending = row.getStatus() == OrderStatus.PENDING;
+            transitions.put(new OrderNumber(row.getOrderNumber()),
+                isPending ? StatusTransition.APPLIED : StatusTransition.INVALID_STATE);
+            if (isPending) {
+                pending.add(row.getOrderNumber());
+            }
+        }
+        if (!pending.isEmpty()) {
+            int confirmed = orderJpaRepository.confirmAllIfPending(pending);
+            if (confirmed != pending.size()) {
+                throw new OptimisticLockingFailureException(
+                    "Expected to confirm " + pending.size() + " orders but confirmed " + confirmed);
+            }
+        }
+        return transitions;
+    }
+
+    @Override
+    public List<Order> findByOrderNumbers(Collection<OrderNumber> orderNumbers) {
+        if (orderNumbers.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = orderNumbers.stream()
+                .map(OrderNumber::value)
+                .distinct()
+                .collect(Collectors.toList());
+        return orderJpaRepository.findByOrderNumberIn(values).stream()
                 .map(orderJpaMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Order> findPage(OrderCursor after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        List<Long> ids = after == null
+                ? orderJpaRepository.findFirstPageIds(pageable)
+                : orderJpaRepository.findPageIdsAfter(after.orderDate(), after.id(), pageable);
+        return findWithItems(ids);
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        Stream<Long> ids = orderJpaRepository.streamAllIds();
+        Iterator<List<Long>> chunks = chunked(ids.iterator(), STREAM_CHUNK_SIZE);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .onClose(ids::close)
+                .flatMap(chunk -> {
+                    List<OrderJpaEntity> entities = orderJpaRepository.findAllWithItemsByIdIn(chunk);
+                    List<Order> orders = entities.stream()
+                            .map(orderJpaMapper::toDomain)
+                            .collect(Collectors.toList());
+                    // Detach the chunk once mapped so the persistence context does not grow with the table
+                    entities.forEach(entityManager::detach);
+                    return orders.stream();
+                });
+    }
+
+    @Override
+    public Stream<OrderNumber> streamOrderNumbers() {
+        return orderJpaRepository.streamAllOrderNumbers().map(OrderNumber::new);
+    }
+
+    private List<Order> findWithItems(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderJpaRepository.findAllWithItemsByIdIn(ids).stream()
+                .map(orderJpaMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private static <T> Iterator<List<T>> chunked(Iterator<T> source, int size) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                return chunk;
+            }
+        };
+    }
+
     @Override
     public void deleteByOrderNumber(OrderNumber orderNumber) {
         orderJpaRepository.deleteByOrderNumber(orderNumber.value());
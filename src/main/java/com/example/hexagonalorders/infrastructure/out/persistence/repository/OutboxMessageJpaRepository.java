@@ -1,23 +1,183 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.repository;
 
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Spring Data JPA repository for OutboxJpaEntity.
+ * 
+ * The hot-path queries filter on status and next_attempt_at so that they are served by
+ * the (status, next_attempt_at) index. While a message is in flight its next_attempt_at
+ * holds the lease expiry, which makes expired leases due again without a separate query.
+ * Retention queries filter on status and processed_at, served by the (status, processed_at) index.
  */
 public interface OutboxMessageJpaRepository extends JpaRepository<OutboxJpaEntity, UUID> {
+
+    /** Lock timeout hint value that makes Hibernate append SKIP LOCKED where supported. */
+    String SKIP_LOCKED = "-2";
     
     /**
-     * Finds the top N outbox messages with the given status, ordered by creation time ascending.
+     * Finds the top N messages with the given status that are due at the given time.
      * 
      * @param status the status to filter by
+     * @param now the current time
+     * @param pageable pagination information
+     * @return list of due outbox messages, earliest due first
+     */
+    List<OutboxJpaEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            OutboxJpaEntity.OutboxStatusJpa status, Instant now, Pageable pageable);
+
+    /**
+     * Selects messages that can be claimed: due pending ones and in-flight ones whose lease has expired.
+     * A message is not claimable while an older message of its aggregate waits for a retry or
+     * is leased, so the later messages of an aggregate never overtake a failed or unfinished one.
+     * Rows are locked for update, skipping rows already locked by a concurrent claimer
+     * on databases that support SKIP LOCKED.
+     * 
+     * @param now the current time used to detect due messages and expired leases
      * @param pageable pagination information
-     * @return list of outbox messages
+     * @return list of claimable outbox messages, earliest due first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT o FROM OutboxJpaEntity o WHERE o.status IN (PENDING, IN_FLIGHT) "
+         + "AND o.nextAttemptAt <= :now "
+         + "AND NOT EXISTS (SELECT 1 FROM OutboxJpaEntity p WHERE p.aggregateId = o.aggregateId "
+         + "AND p.createdAt < o.createdAt "
+         + "AND ((p.status = PENDING AND p.attempts > 0) OR (p.status = IN_FLIGHT AND p.nextAttemptAt > :now))) "
+         + "ORDER BY o.nextAttemptAt ASC, o.createdAt ASC")
+    List<OutboxJpaEntity> findClaimable(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Leases the given messages to an owner. The claimable condition is re-checked in the
+     * UPDATE itself, so a message can only be claimed by one owner even without row locks.
+     * 
+     * @param ids the IDs of the candidate messages
+     * @param owner the claiming owner
+     * @param lockedUntil the lease expiry
+     * @param now the current time used to detect due messages and expired leases
+     * @return the number of rows claimed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxJpaEntity o SET o.status = IN_FLIGHT, o.lockedBy = :owner, o.lockedUntil = :lockedUntil, "
+         + "o.nextAttemptAt = :lockedUntil "
+         + "WHERE o.id IN :ids AND o.status IN (PENDING, IN_FLIGHT) AND o.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("owner") String owner,
+              @Param("lockedUntil") Instant lockedUntil,
+              @Param("now") Instant now);
+
+    /**
+     * Finds the messages leased to an owner by a specific claim.
+     * 
+     * @param ids the IDs of the candidate messages
+     * @param lockedBy the claiming owner
+     * @param lockedUntil the lease expiry set by the claim
+     * @return list of claimed outbox messages, oldest first
+     */
+    List<OutboxJpaEntity> findByIdInAndLockedByAndLockedUntilOrderByCreatedAtAsc(
+            Collection<UUID> ids, String lockedBy, Instant lockedUntil);
+
+    /**
+     * Sets the status and processing time of all given outbox messages with a single bulk UPDATE.
+     * 
+     * @param ids the IDs of the messages to update
+     * @param status the new status
+     * @param processedAt the processing timestamp
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxJpaEntity o SET o.status = :status, o.processedAt = :processedAt, "
+         + "o.lockedBy = NULL, o.lockedUntil = NULL WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("status") OutboxJpaEntity.OutboxStatusJpa status,
+                     @Param("processedAt") Instant processedAt);
+
+    /**
+     * Returns messages to PENDING without counting an attempt. They become due at their
+     * creation time again, so they sort before the later messages of their aggregate.
+     * 
+     * @param ids the IDs of the messages
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxJpaEntity o SET o.status = PENDING, o.nextAttemptAt = o.createdAt, "
+         + "o.lockedBy = NULL, o.lockedUntil = NULL WHERE o.id IN :ids")
+    int release(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Records the final failed delivery attempt and moves the messages to DEAD_LETTER.
+     * 
+     * @param ids the IDs of the messages
+     * @param processedAt the time of the final attempt
+     * @param lastError description of the failure
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxJpaEntity o SET o.status = DEAD_LETTER, o.attempts = o.attempts + 1, "
+         + "o.processedAt = :processedAt, o.lastError = :lastError, "
+         + "o.lockedBy = NULL, o.lockedUntil = NULL WHERE o.id IN :ids")
+    int markDeadLetter(@Param("ids") Collection<UUID> ids,
+                       @Param("processedAt") Instant processedAt,
+                       @Param("lastError") String lastError);
+
+    /**
+     * Finds the IDs of the oldest messages with the given status processed before the given time.
+     * 
+     * @param status the status to filter by
+     * @param processedBefore the retention cutoff
+     * @param pageable pagination information
+     * @return list of message IDs, oldest first
+     */
+    @Query("SELECT o.id FROM OutboxJpaEntity o WHERE o.status = :status AND o.processedAt < :processedBefore "
+         + "ORDER BY o.processedAt ASC")
+    List<UUID> findIdsProcessedBefore(@Param("status") OutboxJpaEntity.OutboxStatusJpa status,
+                                      @Param("processedBefore") Instant processedBefore,
+                                      Pageable pageable);
+
+    /**
+     * Deletes the given messages with a single bulk DELETE.
+     * 
+     * @param ids the IDs of the messages to delete
+     * @return the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxJpaEntity o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Counts the undelivered messages per aggregate type, event type and status, with the
+     * creation time of the oldest message of each group.
+     * 
+     * @return one row per group that has messages
+     */
+    @Query("SELECT o.aggregateType AS aggregateType, o.eventType AS eventType, o.status AS status, "
+         + "COUNT(o) AS messageCount, MIN(o.createdAt) AS oldestCreatedAt FROM OutboxJpaEntity o "
+         + "WHERE o.status IN (PENDING, IN_FLIGHT, FAILED, DEAD_LETTER) "
+         + "GROUP BY o.aggregateType, o.eventType, o.status")
+    List<BacklogRow> summarizeBacklog();
+
+    /**
+     * Projection of a {@link #summarizeBacklog()} row.
      */
-    List<OutboxJpaEntity> findByStatusOrderByCreatedAtAsc(OutboxJpaEntity.OutboxStatusJpa status, Pageable pageable);
-} 
\ No newline at end of file
+    interface BacklogRow {
+        String getAggregateType();
+        String getEventType();
+        OutboxJpaEntity.OutboxStatusJpa getStatus();
+        long getMessageCount();
+        Instant getOldestCreatedAt();
+    }
+}
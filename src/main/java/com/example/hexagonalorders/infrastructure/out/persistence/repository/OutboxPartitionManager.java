@@ -0,0 +1,172 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the daily range partitions of the outbox on PostgreSQL, where it is partitioned
+ * by created_at. Each partition is named outbox_pYYYYMMDD and holds the messages created on
+ * one UTC day; messages no daily partition covers land in outbox_default.
+ * Expired messages are removed by dropping whole partitions, which costs the same however
+ * many rows they hold and leaves no dead tuples behind.
+ * On other databases the outbox is a single table and {@link #isPartitioned()} is false.
+ */
+@Component
+public class OutboxPartitionManager implements OutboxPartitionRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionManager.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("outbox_p(\\d{8})");
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean partitioned;
+
+    public OutboxPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * @return true if the outbox is a partitioned PostgreSQL table
+     */
+    @Override
+    public boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return false;
+                }
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass('outbox')");
+                     ResultSet result = statement.executeQuery()) {
+                    return result.next() && result.getBoolean(1);
+                }
+            });
+        }
+        return partitioned;
+    }
+
+    /**
+     * Creates the daily partitions from today up to and including the given day that do not
+     * exist yet, so that new messages never fall into the default partition.
+     *
+     * @param lastDay the last UTC day to create a partition for
+     * @return the number of partitions created
+     */
+    @Override
+    public int createPartitionsUntil(LocalDate lastDay) {
+        List<LocalDate> existing = partitionDays();
+        int created = 0;
+        for (LocalDate day = LocalDate.now(ZoneOffset.UTC); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (existing.contains(day)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day)
+                    + " PARTITION OF outbox FOR VALUES FROM ('" + startOf(day) + "') TO ('" + startOf(day.plusDays(1)) + "')");
+                created++;
+            } catch (DataAccessException e) {
+                // Fails if the default partition already holds messages of that day; they stay there
+                log.warn("Could not create outbox partition for {}", day, e);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Drops the daily partitions whose messages have all expired. A partition is kept while it
+     * holds a single message that is undelivered, of a status without retention, or processed
+     * after the cutoff of its status. Today's and future partitions are never dropped.
+     * A partition is dropped whole or not at all: a single message that must be kept, such as
+     * a dead letter kept longer than processed messages or a message still awaiting delivery,
+     * keeps every other message of its day on disk until it has expired as well.
+     *
+     * @param expiredBefore per terminal status, messages processed before this time have expired
+     * @param now the current time
+     * @return the number of messages in the dropped partitions
+     */
+    @Override
+    public int dropExpiredPartitions(Map<OutboxStatus, Instant> expiredBefore, Instant now) {
+        if (expiredBefore.isEmpty()) {
+            return 0;
+        }
+        // A message is processed after it was created, so none of a partition's messages can
+        // have expired before every one of them was created
+        Instant latestCutoff = expiredBefore.values().stream().max(Instant::compareTo).orElseThrow();
+        int dropped = 0;
+        for (LocalDate day : partitionDays()) {
+            Instant end = startOf(day.plusDays(1)).toInstant();
+            if (end.isAfter(latestCutoff) || end.isAfter(now)) {
+                continue;
+            }
+            dropped += transactionTemplate.execute(status -> dropIfExpired(day, expiredBefore));
+        }
+        return dropped;
+    }
+
+    private int dropIfExpired(LocalDate day, Map<OutboxStatus, Instant> expiredBefore) {
+        String partition = partitionName(day);
+        List<String> conditions = new ArrayList<>();
+        List<Object> cutoffs = new ArrayList<>();
+        expiredBefore.forEach((status, cutoff) -> {
+            conditions.add("(status = '" + status.name() + "' AND processed_at < ?)");
+            cutoffs.add(OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC));
+        });
+        // Every message of an old partition is either terminal, and never changes again,
+        // or holds the partition back, so nothing can become live between the count and the drop
+        Map<String, Object> counts = jdbcTemplate.queryForMap(
+            "SELECT count(*) AS total, count(*) FILTER (WHERE NOT COALESCE(" + String.join(" OR ", conditions) + ", FALSE)) AS live FROM "
+                + partition, cutoffs.toArray());
+        if (((Number) counts.get("live")).longValue() > 0) {
+            return 0;
+        }
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        int total = ((Number) counts.get("total")).intValue();
+        log.info("Dropped outbox partition {} with {} expired messages", partition, total);
+        return total;
+    }
+
+    private List<LocalDate> partitionDays() {
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass('outbox') ORDER BY c.relname", String.class);
+        List<LocalDate> days = new ArrayList<>(partitions.size());
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches()) {
+                days.add(LocalDate.parse(matcher.group(1), PARTITION_DAY));
+            }
+        }
+        return days;
+    }
+
+    private static String partitionName(LocalDate day) {
+        return "outbox_p" + PARTITION_DAY.format(day);
+    }
+
+    private static OffsetDateTime startOf(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+}
@@ -1,14 +1,24 @@
 package com.example.hexagonalorders.infrastructure.out.persistence.repository;
 
+import com.example.hexagonalorders.domain.model.OutboxBacklog;
 import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
 import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import com.example.hexagonalorders.domain.port.out.ScheduledRetry;
 import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
 import com.example.hexagonalorders.infrastructure.out.persistence.mapper.OutboxMessageMapper;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,12 +30,23 @@ import java.util.stream.Collectors;
 @Repository
 public class OutboxRepositoryAdapter implements OutboxRepository {
 
+    private static final String SCHEDULE_RETRY_SQL =
+        "UPDATE outbox SET status = 'PENDING', attempts = attempts + 1, next_attempt_at = ?, last_error = ?, "
+        + "locked_by = NULL, locked_until = NULL WHERE id = ?";
+
     private final OutboxMessageJpaRepository jpaRepository;
     private final OutboxMessageMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
-    public OutboxRepositoryAdapter(OutboxMessageJpaRepository jpaRepository, OutboxMessageMapper mapper) {
+    public OutboxRepositoryAdapter(OutboxMessageJpaRepository jpaRepository,
+                                   OutboxMessageMapper mapper,
+                                   JdbcTemplate jdbcTemplate,
+                                   EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -39,8 +60,9 @@ public class OutboxRepositoryAdapter implements OutboxRepository {
     @Override
     @Transactional(readOnly = true)
     public List<OutboxMessage> findPending(int limit) {
-        List<OutboxJpaEntity> entities = jpaRepository.findByStatusOrderByCreatedAtAsc(
+        List<OutboxJpaEntity> entities = jpaRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
             OutboxJpaEntity.OutboxStatusJpa.PENDING, 
+            Instant.now(),
             PageRequest.of(0, limit)
         );
         
@@ -51,21 +73,112 @@ public class OutboxRepositoryAdapter implements OutboxRepository {
 
     @Override
     @Transactional
-    public void markProcessed(UUID id) {
-        jpaRepository.findById(id).ifPresent(entity -> {
-            entity.setStatus(OutboxJpaEntity.OutboxStatusJpa.PROCESSED);
-            entity.setProcessedAt(Instant.now());
-            jpaRepository.save(entity);
-        });
+    public List<OutboxMessage> claimPending(String owner, int limit, Duration leaseDuration) {
+        Instant now = Instant.now();
+        // Only the lease is truncated, to a precision every database stores exactly, so that
+        // the re-read below matches it; truncating now would skip messages due within the
+        // current millisecond
+        Instant lockedUntil = now.plus(leaseDuration).truncatedTo(ChronoUnit.MILLIS);
+        
+        List<UUID> candidateIds = jpaRepository.findClaimable(now, PageRequest.of(0, limit)).stream()
+            .map(OutboxJpaEntity::getId)
+            .collect(Collectors.toList());
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // The conditional update only succeeds for rows that are still claimable, so
+        // re-reading by owner and lease returns exactly the rows this call claimed
+        jpaRepository.claim(candidateIds, owner, lockedUntil, now);
+        return jpaRepository.findByIdInAndLockedByAndLockedUntilOrderByCreatedAtAsc(candidateIds, owner, lockedUntil)
+            .stream()
+            .map(mapper::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int markProcessed(Collection<UUID> ids) {
+        return updateStatus(ids, OutboxJpaEntity.OutboxStatusJpa.PROCESSED);
     }
 
     @Override
     @Transactional
-    public void markFailed(UUID id) {
-        jpaRepository.findById(id).ifPresent(entity -> {
-            entity.setStatus(OutboxJpaEntity.OutboxStatusJpa.FAILED);
-            entity.setProcessedAt(Instant.now());
-            jpaRepository.save(entity);
+    public void scheduleRetries(Collection<ScheduledRetry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        // Every retry has its own due time and error, which a single JPQL update cannot express;
+        // one JDBC batch still sends them all in one round trip. Like the bulk JPQL updates, it
+        // flushes pending changes first and clears the persistence context afterwards
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(SCHEDULE_RETRY_SQL, retries, retries.size(), (statement, retry) -> {
+            statement.setObject(1, OffsetDateTime.ofInstant(retry.nextAttemptAt(), ZoneOffset.UTC));
+            statement.setString(2, truncateError(retry.error()));
+            statement.setObject(3, retry.id());
         });
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public void release(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jpaRepository.release(ids);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markDeadLetter(Collection<UUID> ids, String error) {
+        if (!ids.isEmpty()) {
+            jpaRepository.markDeadLetter(ids, Instant.now(), truncateError(error));
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteProcessedBefore(OutboxStatus status, Instant processedBefore, int limit) {
+        if (status == OutboxStatus.PENDING || status == OutboxStatus.IN_FLIGHT) {
+            throw new IllegalArgumentException("Only messages in a terminal status can be deleted: " + status);
+        }
+        // Deleting a bounded chunk by primary key keeps each transaction and its locks short
+        List<UUID> ids = jpaRepository.findIdsProcessedBefore(
+            mapper.mapStatus(status), processedBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteByIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxBacklog> summarizeBacklog() {
+        return jpaRepository.summarizeBacklog().stream()
+            .map(row -> new OutboxBacklog(
+                row.getAggregateType(),
+                row.getEventType(),
+                mapper.mapStatus(row.getStatus()),
+                row.getMessageCount(),
+                row.getOldestCreatedAt()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies a status transition to all given messages with one bulk UPDATE
+     * instead of loading and saving each entity individually.
+     */
+    private int updateStatus(Collection<UUID> ids, OutboxJpaEntity.OutboxStatusJpa status) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.updateStatus(ids, status, Instant.now());
+    }
+
+    private String truncateError(String error) {
+        if (error == null || error.length() <= OutboxJpaEntity.MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, OutboxJpaEntity.MAX_ERROR_LENGTH);
     }
-} 
\ No newline at end of file
+}
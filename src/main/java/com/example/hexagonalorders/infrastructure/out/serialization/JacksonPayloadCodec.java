@@ -0,0 +1,95 @@
+package com.example.hexagonalorders.infrastructure.out.serialization;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import com.example.hexagonalorders.domain.port.out.PayloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson implementation of the {@link PayloadCodec}.
+ * Events are written straight to bytes in the format selected by outbox.payload.format
+ * (json, smile or cbor) with an {@link ObjectWriter} that is built once per event class and
+ * then reused, so the serializer lookup is not repeated for every event. Payloads larger than
+ * outbox.payload.compression-threshold bytes are gzip-compressed; a threshold of 0 disables
+ * compression. Decoding reads the headers of the payload, so messages written with an earlier
+ * format or threshold stay readable.
+ */
+@Component
+public class JacksonPayloadCodec implements PayloadCodec {
+
+    static final String SMILE = "application/x-jackson-smile";
+    static final String CBOR = "application/cbor";
+
+    private final Map<String, ObjectMapper> mappers;
+    private final String contentType;
+    private final int compressionThreshold;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Class<?>, ObjectReader>> readers = new ConcurrentHashMap<>();
+
+    public JacksonPayloadCodec(ObjectMapper objectMapper,
+                               @Value("${outbox.payload.format:json}") String format,
+                               @Value("${outbox.payload.compression-threshold:1024}") int compressionThreshold) {
+        // The binary formats share the configuration (modules, features) of the application's mapper
+        this.mappers = Map.of(
+            EncodedPayload.JSON, objectMapper,
+            SMILE, objectMapper.copyWith(new SmileFactory()),
+            CBOR, objectMapper.copyWith(new CBORFactory()));
+        this.contentType = switch (format.toLowerCase()) {
+            case "json" -> EncodedPayload.JSON;
+            case "smile" -> SMILE;
+            case "cbor" -> CBOR;
+            default -> throw new IllegalArgumentException("Unsupported payload format: " + format);
+        };
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public EncodedPayload encode(Object event) {
+        ObjectWriter writer = writers.computeIfAbsent(event.getClass(), mappers.get(contentType)::writerFor);
+        try {
+            byte[] data = writer.writeValueAsBytes(event);
+            if (compressionThreshold > 0 && data.length > compressionThreshold) {
+                return new EncodedPayload(gzip(data), contentType, EncodedPayload.GZIP);
+            }
+            return new EncodedPayload(data, contentType, EncodedPayload.IDENTITY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(EncodedPayload payload, Class<T> type) {
+        ObjectMapper mapper = mappers.get(payload.contentType());
+        if (mapper == null) {
+            throw new IllegalArgumentException("Unsupported payload content type: " + payload.contentType());
+        }
+        ObjectReader reader = readers
+            .computeIfAbsent(payload.contentType(), ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, mapper::readerFor);
+        try {
+            return reader.readValue(payload.content());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+-- Orders
+CREATE TABLE orders (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number VARCHAR(255) NOT NULL,
+    customer_id VARCHAR(255) NOT NULL,
+    order_date TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED')),
+    street VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    state VARCHAR(255) NOT NULL,
+    postal_code VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number)
+);
+
+CREATE TABLE order_items (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_number VARCHAR(255) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(38, 2) NOT NULL
+);
+
+-- Loading the items of an order; created before the foreign key so that it backs the constraint
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+ALTER TABLE order_items ADD CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id);
+
+-- Outbox
+CREATE TABLE outbox (
+    id UUID NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload CLOB NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_FLIGHT', 'PROCESSED', 'FAILED', 'DEAD_LETTER')),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP(6) WITH TIME ZONE,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP(6) WITH TIME ZONE,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(2000)
+);
+
+CREATE INDEX idx_outbox_idempotency ON outbox (aggregate_id, event_type, created_at);
+-- Claiming due messages and expired leases (findClaimable, findByStatusAndNextAttemptAt...)
+CREATE INDEX idx_outbox_status_next_attempt ON outbox (status, next_attempt_at);
+-- Retention (findIdsProcessedBefore)
+CREATE INDEX idx_outbox_status_processed_at ON outbox (status, processed_at);
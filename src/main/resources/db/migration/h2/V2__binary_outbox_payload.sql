@@ -0,0 +1,10 @@
+-- Store outbox payloads as bytes with their content type and encoding.
+-- Existing payloads are JSON text and are converted to UTF-8 bytes.
+ALTER TABLE outbox ADD COLUMN payload_data VARBINARY(1048576);
+UPDATE outbox SET payload_data = STRINGTOUTF8(CAST(payload AS VARCHAR));
+ALTER TABLE outbox DROP COLUMN payload;
+ALTER TABLE outbox ALTER COLUMN payload_data RENAME TO payload;
+ALTER TABLE outbox ALTER COLUMN payload SET NOT NULL;
+
+ALTER TABLE outbox ADD COLUMN content_type VARCHAR(100) DEFAULT 'application/json' NOT NULL;
+ALTER TABLE outbox ADD COLUMN content_encoding VARCHAR(20) DEFAULT 'identity' NOT NULL;
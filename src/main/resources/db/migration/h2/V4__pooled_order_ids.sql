@@ -0,0 +1,9 @@
+-- Order and item IDs come from sequences that hand out blocks of 50 (Hibernate's pooled optimizer),
+-- so new rows get their IDs without a round trip each and inserts can be batched.
+-- A sequence value is the highest ID of its block, so the first value leaves room for one block
+-- above the existing rows.
+CREATE SEQUENCE orders_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM orders) INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM order_items) INCREMENT BY 50;
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,10 @@
+-- Order change log: one row per committed change of an order, read by every node to evict
+-- the order from its cache; rows are removed once they are older than the retention window
+CREATE TABLE order_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Polling for recent changes and purging old ones
+CREATE INDEX idx_order_changes_changed_at ON order_changes (changed_at);
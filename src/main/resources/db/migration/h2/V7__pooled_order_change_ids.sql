@@ -0,0 +1,5 @@
+-- Order change IDs come from a pooled sequence like order IDs (see V4), so the change rows
+-- written by a batch of orders are inserted in JDBC batches along with the orders.
+CREATE SEQUENCE order_changes_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM order_changes) INCREMENT BY 50;
+
+ALTER TABLE order_changes ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,4 @@
+-- H2 has no table partitioning; the outbox stays a single table and OutboxRetentionJob
+-- deletes expired messages in chunks. This script keeps the migration versions of both
+-- vendors aligned.
+SELECT 1;
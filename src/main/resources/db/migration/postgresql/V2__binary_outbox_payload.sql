@@ -0,0 +1,6 @@
+-- Store outbox payloads as bytes with their content type and encoding.
+-- Existing payloads are JSON text and are converted to UTF-8 bytes.
+ALTER TABLE outbox ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+
+ALTER TABLE outbox ADD COLUMN content_type VARCHAR(100) DEFAULT 'application/json' NOT NULL;
+ALTER TABLE outbox ADD COLUMN content_encoding VARCHAR(20) DEFAULT 'identity' NOT NULL;
@@ -0,0 +1,2 @@
+-- Keyset pagination and streaming of the order listing, sorted by order date and then by ID
+CREATE INDEX idx_orders_order_date_id ON orders (order_date, id);
@@ -0,0 +1,11 @@
+-- Order and item IDs come from sequences that hand out blocks of 50 (Hibernate's pooled optimizer),
+-- so new rows get their IDs without a round trip each and inserts can be batched.
+-- A sequence value is the highest ID of its block, so the first value leaves room for one block
+-- above the existing rows.
+CREATE SEQUENCE orders_seq INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq INCREMENT BY 50;
+SELECT setval('orders_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM orders), false);
+SELECT setval('order_items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM order_items), false);
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,2 @@
+-- Optimistic locking: every update of an order increments its version
+ALTER TABLE orders ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,63 @@
+-- Range-partition the outbox by created_at, one partition per UTC day, so that retention drops
+-- whole partitions once all their messages have expired instead of deleting them row by row.
+-- Partitions are named outbox_pYYYYMMDD; OutboxRetentionJob creates the upcoming ones, and
+-- outbox_default catches messages that no daily partition covers.
+-- The partition key has to be part of the primary key, so the key becomes (id, created_at).
+-- Requires PostgreSQL 12 or later.
+ALTER TABLE outbox RENAME TO outbox_unpartitioned;
+ALTER TABLE outbox_unpartitioned DROP CONSTRAINT outbox_pkey;
+DROP INDEX idx_outbox_idempotency;
+DROP INDEX idx_outbox_status_next_attempt;
+DROP INDEX idx_outbox_status_processed_at;
+
+CREATE TABLE outbox (
+    id UUID NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload BYTEA NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_FLIGHT', 'PROCESSED', 'FAILED', 'DEAD_LETTER')),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP(6) WITH TIME ZONE,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP(6) WITH TIME ZONE,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(2000),
+    content_type VARCHAR(100) DEFAULT 'application/json' NOT NULL,
+    content_encoding VARCHAR(20) DEFAULT 'identity' NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE outbox_default PARTITION OF outbox DEFAULT;
+
+-- One partition per day from the oldest existing message up to a week ahead
+DO $$
+DECLARE
+    today DATE := (now() AT TIME ZONE 'UTC')::date;
+    partition_day DATE := LEAST(today, COALESCE((SELECT min(created_at AT TIME ZONE 'UTC')::date FROM outbox_unpartitioned), today));
+BEGIN
+    WHILE partition_day <= today + 7 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF outbox FOR VALUES FROM (%L) TO (%L)',
+                       'outbox_p' || to_char(partition_day, 'YYYYMMDD'),
+                       partition_day::timestamp AT TIME ZONE 'UTC',
+                       (partition_day + 1)::timestamp AT TIME ZONE 'UTC');
+        partition_day := partition_day + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO outbox (id, aggregate_type, aggregate_id, event_type, payload, status, created_at, processed_at,
+                    locked_by, locked_until, attempts, next_attempt_at, last_error, content_type, content_encoding)
+SELECT id, aggregate_type, aggregate_id, event_type, payload, status, created_at, processed_at,
+       locked_by, locked_until, attempts, next_attempt_at, last_error, content_type, content_encoding
+FROM outbox_unpartitioned;
+
+DROP TABLE outbox_unpartitioned;
+
+-- Indexes on the partitioned table are created on every partition, present and future
+CREATE INDEX idx_outbox_idempotency ON outbox (aggregate_id, event_type, created_at);
+-- Claiming due messages and expired leases (findClaimable, findByStatusAndNextAttemptAt...)
+CREATE INDEX idx_outbox_status_next_attempt ON outbox (status, next_attempt_at)
+    WHERE status IN ('PENDING', 'IN_FLIGHT');
+-- idx_outbox_status_processed_at is not recreated: retention drops partitions instead of
+-- looking up expired messages
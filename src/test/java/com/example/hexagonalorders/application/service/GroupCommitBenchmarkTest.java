@@ -0,0 +1,99 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how many createOrder and confirmOrder calls per second concurrent callers complete,
+ * with and without group commit. Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.com.example.hexagonalorders=WARN",
+    "orders.group-commit.enabled=true"
+})
+@ActiveProfiles("test")
+class GroupCommitBenchmarkTest {
+
+    private static final int CALLERS = 16;
+    private static final int ORDERS_PER_CALLER = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderUseCase groupCommit;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createAndConfirm_WithConcurrentCallers() throws Exception {
+        assertInstanceOf(GroupCommitOrderService.class, groupCommit);
+        run("warmup", orderService);
+        run("warmup", groupCommit);
+
+        run("one commit per write", orderService);
+        run("group commit", groupCommit);
+    }
+
+    private void run(String label, OrderUseCase orderUseCase) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>(CALLERS);
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    for (int j = 0; j < ORDERS_PER_CALLER; j++) {
+                        orderUseCase.confirmOrder(orderUseCase.createOrder(order()).getOrderNumber());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            callers.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long writes = 2L * CALLERS * ORDERS_PER_CALLER;
+        System.out.printf("%s: %d writes from %d callers in %.2f s, %.0f writes/s, %d transactions%n",
+            label, writes, CALLERS, seconds, writes / seconds, statistics.getTransactionCount());
+        assertTrue(seconds > 0);
+    }
+
+    private Order order() {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order("CUST-001", LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+}
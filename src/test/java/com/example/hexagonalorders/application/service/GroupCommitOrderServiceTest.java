@@ -0,0 +1,196 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.application.exception.OrderNotFoundException;
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import com.example.hexagonalorders.domain.service.OrderValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Submits writes from concurrent callers. Groups are closed by size only, because the delay is
+ * far longer than the tests, so every test knows exactly which writes share a transaction.
+ */
+@ExtendWith(MockitoExtension.class)
+class GroupCommitOrderServiceTest {
+
+    private static final long NEVER_MS = 60_000;
+
+    @Mock
+    private OrderUseCase delegate;
+
+    @Mock
+    private OrderValidationService orderValidationService;
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private GroupCommitOrderService groupCommit;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (groupCommit != null) {
+            groupCommit.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCommitConcurrentWritesInOneTransaction() throws Exception {
+        // Given
+        groupCommit = groupCommit(5);
+        when(delegate.createOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        OrderNumber orderNumber = new OrderNumber("ORD-001");
+        when(delegate.confirmOrders(anyCollection())).thenReturn(Map.of(orderNumber, StatusTransition.APPLIED));
+        List<Order> orders = List.of(order("CUST-1"), order("CUST-2"), order("CUST-3"), order("CUST-4"));
+
+        // When
+        List<Future<Order>> created = new ArrayList<>();
+        for (Order order : orders) {
+            created.add(callers.submit(() -> groupCommit.createOrder(order)));
+        }
+        Future<?> confirmed = callers.submit(() -> groupCommit.confirmOrder(orderNumber));
+
+        // Then
+        for (int i = 0; i < orders.size(); i++) {
+            assertSame(orders.get(i), created.get(i).get(5, TimeUnit.SECONDS));
+        }
+        confirmed.get(5, TimeUnit.SECONDS);
+        assertEquals(1, transactions.get());
+        verify(delegate, times(4)).createOrder(any(Order.class));
+        verify(delegate).confirmOrders(List.of(orderNumber));
+        verify(delegate, never()).confirmOrder(any());
+    }
+
+    @Test
+    void shouldFailOnlyTheConfirmationsThatCannotBeApplied() throws Exception {
+        // Given
+        groupCommit = groupCommit(4);
+        OrderNumber pending = new OrderNumber("ORD-001");
+        OrderNumber missing = new OrderNumber("ORD-002");
+        OrderNumber shipped = new OrderNumber("ORD-003");
+        when(delegate.confirmOrders(anyCollection())).thenReturn(Map.of(
+            pending, StatusTransition.APPLIED,
+            missing, StatusTransition.NOT_FOUND,
+            shipped, StatusTransition.INVALID_STATE));
+
+        // When
+        List<Future<?>> twice = List.of(
+            callers.submit(() -> groupCommit.confirmOrder(pending)),
+            callers.submit(() -> groupCommit.confirmOrder(pending)));
+        Future<?> notFound = callers.submit(() -> groupCommit.confirmOrder(missing));
+        Future<?> notPending = callers.submit(() -> groupCommit.confirmOrder(shipped));
+
+        // Then
+        assertInstanceOf(OrderNotFoundException.class, failure(notFound));
+        assertInstanceOf(IllegalStateException.class, failure(notPending));
+        // Only one of two confirmations of the same order finds it PENDING
+        int succeeded = 0;
+        for (Future<?> confirmation : twice) {
+            try {
+                confirmation.get(5, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertEquals(1, succeeded);
+        assertEquals(1, transactions.get());
+    }
+
+    @Test
+    void shouldCommitWritesOfFailedGroupOneByOne() throws Exception {
+        // Given
+        groupCommit = groupCommit(3);
+        when(delegate.createOrder(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.createOrder(argThat(order -> order != null && "CUST-2".equals(order.getCustomerId()))))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        Future<Order> first = callers.submit(() -> groupCommit.createOrder(order("CUST-1")));
+        Future<Order> failing = callers.submit(() -> groupCommit.createOrder(order("CUST-2")));
+        Future<Order> third = callers.submit(() -> groupCommit.createOrder(order("CUST-3")));
+
+        // Then
+        assertEquals("CUST-1", first.get(5, TimeUnit.SECONDS).getCustomerId());
+        assertEquals("CUST-3", third.get(5, TimeUnit.SECONDS).getCustomerId());
+        assertInstanceOf(DataIntegrityViolationException.class, failure(failing));
+        // The failed group; the retries run in transactions of the delegate
+        assertEquals(1, transactions.get());
+    }
+
+    @Test
+    void shouldRejectInvalidOrderWithoutQueuingIt() {
+        // Given
+        groupCommit = groupCommit(1);
+        Order invalid = order("CUST-1");
+        doThrow(new IllegalArgumentException("Order has no items")).when(orderValidationService).validateOrder(invalid);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> groupCommit.createOrder(invalid));
+        assertEquals("Order has no items", exception.getMessage());
+        verify(delegate, never()).createOrder(any());
+        assertEquals(0, transactions.get());
+    }
+
+    @Test
+    void shouldRejectNonPositiveGroupSize() {
+        assertThrows(IllegalArgumentException.class, () -> new GroupCommitOrderService(delegate, orderValidationService,
+            TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), 0, 1, 1));
+    }
+
+    private GroupCommitOrderService groupCommit(int maxGroupSize) {
+        TransactionOperations countingTransactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+        return new GroupCommitOrderService(delegate, orderValidationService, countingTransactions,
+            new SimpleMeterRegistry(), maxGroupSize, NEVER_MS, 100);
+    }
+
+    private static Throwable failure(Future<?> future) throws Exception {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return exception.getCause();
+    }
+
+    private Order order(String customerId) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(customerId, LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how many rows per second createOrder and createOrders write for orders with large carts.
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.com.example.hexagonalorders=WARN"
+})
+@ActiveProfiles("test")
+class OrderCreationBenchmarkTest {
+
+    private static final int CART_SIZE = 200;
+    private static final int WARMUP_ORDERS = 20;
+    private static final int MEASURED_ORDERS = 100;
+
+    @Autowired
+    private OrderUseCase orderUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createOrder_WithLargeCarts() {
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            orderUseCase.createOrder(order());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ORDERS; i++) {
+            orderUseCase.createOrder(order());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long rows = (long) MEASURED_ORDERS * (CART_SIZE + 1);
+        System.out.printf("createOrder: %d orders of %d items in %.2f s, %.0f orders/s, %.0f rows/s, %.1f statements/order%n",
+            MEASURED_ORDERS, CART_SIZE, seconds, MEASURED_ORDERS / seconds, rows / seconds,
+            (double) statistics.getPrepareStatementCount() / MEASURED_ORDERS);
+        assertTrue(seconds > 0);
+    }
+
+    @Test
+    void createOrders_WithLargeCarts() {
+        orderUseCase.createOrders(orders(WARMUP_ORDERS));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        List<OrderCreationResult> results = orderUseCase.createOrders(orders(MEASURED_ORDERS));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long rows = (long) MEASURED_ORDERS * (CART_SIZE + 1);
+        System.out.printf("createOrders: %d orders of %d items in %.2f s, %.0f orders/s, %.0f rows/s, %.1f statements/order%n",
+            MEASURED_ORDERS, CART_SIZE, seconds, MEASURED_ORDERS / seconds, rows / seconds,
+            (double) statistics.getPrepareStatementCount() / MEASURED_ORDERS);
+        assertTrue(results.stream().allMatch(OrderCreationResult::isCreated));
+    }
+
+    private List<Order> orders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(order());
+        }
+        return orders;
+    }
+
+    private Order order() {
+        List<OrderItem> items = new ArrayList<>(CART_SIZE);
+        for (int i = 0; i < CART_SIZE; i++) {
+            items.add(new OrderItem(new ProductNumber("PROD-" + i), new Quantity(1 + i % 5), new BigDecimal("9.99")));
+        }
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order("CUST-001", LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+}
@@ -9,6 +9,7 @@ import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
 import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
 import com.example.hexagonalorders.domain.port.out.OrderRepository;
 import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
 import com.example.hexagonalorders.domain.service.OrderValidationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +23,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,29 +75,24 @@ class OrderServiceConfirmOrderTest {
     @Test
     void shouldConfirmOrderSuccessfully() throws Exception {
         // Given
-        when(orderRepository.findByOrderNumber(orderNumber)).thenReturn(Optional.of(pendingOrder));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
-            Order savedOrder = invocation.getArgument(0);
-            // The saved order should have the confirmed status and the OrderConfirmedEvent
-            return savedOrder;
-        });
+        when(orderRepository.confirmIfPending(orderNumber)).thenReturn(StatusTransition.APPLIED);
 
         // When
-        Order result = orderService.confirmOrder(orderNumber);
+        orderService.confirmOrder(orderNumber);
 
         // Then
-        assertNotNull(result);
-        assertEquals(OrderStatus.CONFIRMED, result.getStatus());
-        
-        verify(orderRepository).findByOrderNumber(orderNumber);
-        verify(orderRepository).save(any(Order.class));
-        verify(eventPublisher).publishEvent(any(OrderConfirmedEvent.class));
+        ArgumentCaptor<OrderConfirmedEvent> event = ArgumentCaptor.forClass(OrderConfirmedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(orderNumber, event.getValue().getOrderNumber());
+        verify(orderRepository).confirmIfPending(orderNumber);
+        verify(orderRepository, never()).findByOrderNumber(any());
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
     void shouldThrowOrderNotFoundExceptionWhenOrderDoesNotExist() {
         // Given
-        when(orderRepository.findByOrderNumber(orderNumber)).thenReturn(Optional.empty());
+        when(orderRepository.confirmIfPending(orderNumber)).thenReturn(StatusTransition.NOT_FOUND);
 
         // When & Then
         OrderNotFoundException exception = assertThrows(
@@ -103,8 +101,41 @@ class OrderServiceConfirmOrderTest {
         );
         assertEquals("Order not found with number: ORD-001", exception.getMessage());
         
-        verify(orderRepository).findByOrderNumber(orderNumber);
         verify(orderRepository, never()).save(any());
         verify(eventPublisher, never()).publishEvent(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldThrowIllegalStateExceptionWhenOrderIsNotPending() {
+        // Given
+        when(orderRepository.confirmIfPending(orderNumber)).thenReturn(StatusTransition.INVALID_STATE);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> orderService.confirmOrder(orderNumber));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldPublishOneEventPerOrderConfirmedInBulk() {
+        // Given
+        OrderNumber confirmed = new OrderNumber("ORD-002");
+        OrderNumber missing = new OrderNumber("ORD-003");
+        List<OrderNumber> orderNumbers = List.of(orderNumber, confirmed, missing);
+        Map<OrderNumber, StatusTransition> transitions = new LinkedHashMap<>();
+        transitions.put(orderNumber, StatusTransition.APPLIED);
+        transitions.put(confirmed, StatusTransition.INVALID_STATE);
+        transitions.put(missing, StatusTransition.NOT_FOUND);
+        when(orderRepository.confirmAllIfPending(orderNumbers)).thenReturn(transitions);
+
+        // When
+        Map<OrderNumber, StatusTransition> result = orderService.confirmOrders(orderNumbers);
+
+        // Then
+        assertEquals(transitions, result);
+        ArgumentCaptor<OrderConfirmedEvent> event = ArgumentCaptor.forClass(OrderConfirmedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(orderNumber, event.getValue().getOrderNumber());
+        verify(orderRepository, never()).confirmIfPending(any());
+        verify(orderRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.domain.event.OrderCreatedEvent;
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCreationResult;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.OrderNumberGenerator;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.domain.service.OrderValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceCreateOrdersTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private OrderValidationService orderValidationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final AtomicInteger numbers = new AtomicInteger();
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionOperations countingTransactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+        orderService = new OrderService(orderRepository, orderNumberGenerator, orderValidationService, eventPublisher,
+            countingTransactions, 0, 2);
+        lenient().when(orderNumberGenerator.generate())
+            .thenAnswer(invocation -> new OrderNumber("ORD-" + numbers.incrementAndGet()));
+        lenient().when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldCreateOrdersInChunkedTransactions() {
+        // When
+        List<OrderCreationResult> results = orderService.createOrders(List.of(order("CUST-1"), order("CUST-2"), order("CUST-3")));
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(OrderCreationResult::isCreated));
+        assertEquals(List.of("CUST-1", "CUST-2", "CUST-3"),
+            results.stream().map(result -> result.order().getCustomerId()).toList());
+        assertEquals(2, transactions.get());
+        verify(orderRepository, times(3)).save(any(Order.class));
+        verify(eventPublisher, times(3)).publishEvent(any(OrderCreatedEvent.class));
+    }
+
+    @Test
+    void shouldReportInvalidOrdersAndCreateTheOthers() {
+        // Given
+        Order invalid = order("CUST-2");
+        lenient().doThrow(new IllegalArgumentException("Order has no items")).when(orderValidationService).validateOrder(invalid);
+
+        // When
+        List<OrderCreationResult> results = orderService.createOrders(List.of(order("CUST-1"), invalid, order("CUST-3")));
+
+        // Then
+        assertTrue(results.get(0).isCreated());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("Order has no items", results.get(1).error());
+        assertTrue(results.get(2).isCreated());
+        assertEquals(1, transactions.get());
+        verify(orderRepository, times(2)).save(any(Order.class));
+    }
+
+    @Test
+    void shouldCreateOrdersOfFailedChunkOneByOne() {
+        // Given
+        when(orderRepository.save(argThat(order -> order != null && "CUST-2".equals(order.getCustomerId()))))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        List<OrderCreationResult> results = orderService.createOrders(List.of(order("CUST-1"), order("CUST-2"), order("CUST-3")));
+
+        // Then
+        assertTrue(results.get(0).isCreated());
+        assertEquals(new OrderNumber("ORD-1"), results.get(0).order().getOrderNumber());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("Order could not be stored", results.get(1).error());
+        assertTrue(results.get(2).isCreated());
+        // The first chunk, its two orders alone, then the second chunk
+        assertEquals(4, transactions.get());
+        verify(orderNumberGenerator, times(3)).generate();
+    }
+
+    @Test
+    void shouldRefuseToCreateOrdersInsideTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> orderService.createOrders(List.of(order("CUST-1"))));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertEquals(0, transactions.get());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderService(orderRepository, null, null, null,
+            TransactionOperations.withoutTransaction(), 0, 0));
+    }
+
+    private Order order(String customerId) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(customerId, LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.application.exception.OrderConflictException;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceDeleteOrderTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderService orderService;
+
+    private final OrderNumber orderNumber = new OrderNumber("ORD-001");
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, null, null, null,
+            TransactionOperations.withoutTransaction(), 2, 100);
+    }
+
+    @Test
+    void shouldRetryDeleteAfterConcurrentUpdate() {
+        // Given
+        doThrow(new OptimisticLockingFailureException("conflict"))
+            .doNothing()
+            .when(orderRepository).deleteByOrderNumber(orderNumber);
+
+        // When
+        orderService.deleteOrder(orderNumber);
+
+        // Then
+        verify(orderRepository, times(2)).deleteByOrderNumber(orderNumber);
+    }
+
+    @Test
+    void shouldThrowOrderConflictExceptionWhenRetriesAreExhausted() {
+        // Given
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("conflict");
+        doThrow(conflict).when(orderRepository).deleteByOrderNumber(orderNumber);
+
+        // When & Then
+        OrderConflictException exception = assertThrows(
+            OrderConflictException.class,
+            () -> orderService.deleteOrder(orderNumber)
+        );
+        assertSame(conflict, exception.getCause());
+        verify(orderRepository, times(3)).deleteByOrderNumber(orderNumber);
+    }
+
+    @Test
+    void shouldRejectNegativeRetryCount() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderService(orderRepository, null, null, null,
+            TransactionOperations.withoutTransaction(), -1, 100));
+    }
+}
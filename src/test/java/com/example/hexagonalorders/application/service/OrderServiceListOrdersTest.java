@@ -0,0 +1,100 @@
+package com.example.hexagonalorders.application.service;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderPage;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceListOrdersTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, null, null, null);
+    }
+
+    @Test
+    void shouldReturnCursorOfLastOrderWhenMoreOrdersExist() {
+        // Given
+        List<Order> orders = List.of(order(1L), order(2L), order(3L));
+        when(orderRepository.findPage(null, 3)).thenReturn(orders);
+
+        // When
+        OrderPage page = orderService.getOrders(null, 2);
+
+        // Then
+        assertEquals(2, page.orders().size());
+        assertTrue(page.hasNext());
+        assertEquals(OrderCursor.of(orders.get(1)), page.next());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        // Given
+        OrderCursor after = new OrderCursor(LocalDateTime.of(2024, 6, 18, 10, 0), 5L);
+        when(orderRepository.findPage(after, 3)).thenReturn(List.of(order(6L), order(7L)));
+
+        // When
+        OrderPage page = orderService.getOrders(after, 2);
+
+        // Then
+        assertEquals(2, page.orders().size());
+        assertFalse(page.hasNext());
+        assertNull(page.next());
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrders(null, 0));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void shouldVisitEveryOrderAndCloseTheStream() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamAll())
+            .thenReturn(Stream.of(order(1L), order(2L)).onClose(() -> closed.set(true)));
+        List<Long> visited = new ArrayList<>();
+
+        // When
+        orderService.forEachOrder(order -> visited.add(order.getId()));
+
+        // Then
+        assertEquals(List.of(1L, 2L), visited);
+        assertTrue(closed.get());
+    }
+
+    private Order order(Long id) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(id, new OrderNumber("ORD-00" + id), "CUST-001", LocalDateTime.of(2024, 6, 18, 10, 0),
+            items, shippingAddress, OrderStatus.PENDING);
+    }
+}
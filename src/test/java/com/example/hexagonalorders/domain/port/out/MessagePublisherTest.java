@@ -0,0 +1,80 @@
+package com.example.hexagonalorders.domain.port.out;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessagePublisherTest {
+
+    @Test
+    void publishBatchShouldReportOneResultPerMessageInOrder() {
+        // Given
+        List<String> published = new ArrayList<>();
+        MessagePublisher publisher = (topic, payload) -> published.add(payload.text());
+        List<OutboundMessage> batch = List.of(
+            message("order-1", "a"),
+            message("order-2", "b"),
+            message("order-1", "c"));
+
+        // When
+        List<PublishResult> results = publisher.publishBatch(batch);
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), published);
+        assertEquals(batch.stream().map(OutboundMessage::id).toList(),
+                     results.stream().map(PublishResult::id).toList());
+        assertTrue(results.stream().allMatch(PublishResult::succeeded));
+    }
+
+    @Test
+    void publishBatchShouldSkipLaterMessagesOfAFailedKey() {
+        // Given
+        List<String> published = new ArrayList<>();
+        MessagePublisher publisher = (topic, payload) -> {
+            if (payload.text().equals("a")) {
+                throw new RuntimeException("broker down");
+            }
+            published.add(payload.text());
+        };
+        List<OutboundMessage> batch = List.of(
+            message("order-1", "a"),
+            message("order-2", "b"),
+            message("order-1", "c"));
+
+        // When
+        List<PublishResult> results = publisher.publishBatch(batch);
+
+        // Then
+        assertEquals(List.of("b"), published);
+        assertEquals("broker down", results.get(0).failure().getMessage());
+        assertTrue(results.get(1).succeeded());
+        assertInstanceOf(DeliverySkippedException.class, results.get(2).failure());
+    }
+
+    @Test
+    void publishBatchShouldHandBinaryPayloadsToThePublisherUnchanged() {
+        // Given
+        List<EncodedPayload> published = new ArrayList<>();
+        MessagePublisher publisher = (topic, payload) -> published.add(payload);
+        EncodedPayload smile = new EncodedPayload(new byte[] {':', ')', '\n', 0x01}, "application/x-jackson-smile",
+            EncodedPayload.IDENTITY);
+
+        // When
+        List<PublishResult> results = publisher.publishBatch(
+            List.of(new OutboundMessage(UUID.randomUUID(), "order-1", "Order.OrderConfirmed", smile)));
+
+        // Then
+        assertTrue(results.get(0).succeeded());
+        assertEquals(List.of(smile), published);
+    }
+
+    private static OutboundMessage message(String key, String payload) {
+        return new OutboundMessage(UUID.randomUUID(), key, "Order.OrderConfirmed", EncodedPayload.json(payload));
+    }
+}
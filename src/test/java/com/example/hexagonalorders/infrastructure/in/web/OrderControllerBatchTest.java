@@ -0,0 +1,177 @@
+package com.example.hexagonalorders.infrastructure.in.web;
+
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderBatchResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderConfirmationBatchResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderConfirmationResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderCreationResultDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderItemDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Creates orders through the bulk endpoint. Not transactional, because every chunk of a batch
+ * is committed in its own transaction.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderControllerBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<String> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String orderNumber : created) {
+            mockMvc.perform(delete("/api/orders/{orderNumber}", orderNumber))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    void createOrders_ShouldReportEachOrderAndCreateTheValidOnes() throws Exception {
+        // Arrange
+        OrderDto withoutCustomer = orderDto("CUST-002");
+        withoutCustomer.setCustomerId(" ");
+        OrderDto withoutStatus = orderDto("CUST-004");
+        withoutStatus.setStatus(null);
+        List<OrderDto> batch = List.of(orderDto("CUST-001"), withoutCustomer, orderDto("CUST-003"), withoutStatus);
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andReturn();
+        OrderBatchResultDto response = objectMapper.readValue(result.getResponse().getContentAsString(), OrderBatchResultDto.class);
+        response.getResults().stream()
+                .filter(OrderCreationResultDto::isCreated)
+                .forEach(orderResult -> created.add(orderResult.getOrder().getOrderNumber()));
+
+        // Assert
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getFailed());
+        List<OrderCreationResultDto> results = response.getResults();
+        assertEquals(List.of(0, 1, 2, 3), results.stream().map(OrderCreationResultDto::getIndex).toList());
+        assertEquals(List.of(true, false, true, false), results.stream().map(OrderCreationResultDto::isCreated).toList());
+        assertNotNull(results.get(1).getError());
+        assertNull(results.get(1).getOrder());
+        assertEquals("CUST-003", results.get(2).getOrder().getCustomerId());
+        for (String orderNumber : created) {
+            mockMvc.perform(get("/api/orders/{orderNumber}", orderNumber))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+        }
+    }
+
+    @Test
+    void createOrders_ShouldRejectEmptyAndOversizedBatches() throws Exception {
+        mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+        List<OrderDto> oversized = Collections.nCopies(OrderController.MAX_BATCH_SIZE + 1, orderDto("CUST-001"));
+        mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(oversized)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void confirmOrders_ShouldConfirmPendingOrdersAndReportTheOthers() throws Exception {
+        // Arrange
+        MvcResult createResult = mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(orderDto("CUST-001"), orderDto("CUST-002")))))
+                .andExpect(status().isOk())
+                .andReturn();
+        objectMapper.readValue(createResult.getResponse().getContentAsString(), OrderBatchResultDto.class)
+                .getResults()
+                .forEach(orderResult -> created.add(orderResult.getOrder().getOrderNumber()));
+        String confirmedBefore = created.get(0);
+        String pending = created.get(1);
+        mockMvc.perform(post("/api/orders/{orderNumber}/confirm", confirmedBefore))
+                .andExpect(status().isOk());
+        List<String> orderNumbers = List.of(confirmedBefore, pending, "ORD-MISSING", pending);
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/orders/batch/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderNumbers)))
+                .andExpect(status().isOk())
+                .andReturn();
+        OrderConfirmationBatchResultDto response = objectMapper.readValue(
+                result.getResponse().getContentAsString(), OrderConfirmationBatchResultDto.class);
+
+        // Assert
+        assertEquals(1, response.getConfirmed());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(confirmedBefore, pending, "ORD-MISSING"),
+                response.getResults().stream().map(OrderConfirmationResultDto::getOrderNumber).toList());
+        assertEquals(List.of("INVALID_STATE", "CONFIRMED", "NOT_FOUND"),
+                response.getResults().stream().map(OrderConfirmationResultDto::getOutcome).toList());
+        mockMvc.perform(get("/api/orders/{orderNumber}", pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void confirmOrders_ShouldRejectEmptyOversizedAndBlankBatches() throws Exception {
+        mockMvc.perform(post("/api/orders/batch/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+        List<String> oversized = Collections.nCopies(OrderController.MAX_BATCH_SIZE + 1, "ORD-001");
+        mockMvc.perform(post("/api/orders/batch/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(oversized)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/orders/batch/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"ORD-001\", \" \"]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private OrderDto orderDto(String customerId) {
+        OrderItemDto itemDto = new OrderItemDto();
+        itemDto.setProductNumber("PROD-001");
+        itemDto.setQuantity(1);
+        itemDto.setUnitPrice(BigDecimal.valueOf(9.99));
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCustomerId(customerId);
+        orderDto.setItems(List.of(itemDto));
+        orderDto.setStatus("PENDING");
+        orderDto.setOrderDate(LocalDateTime.of(2024, 6, 18, 10, 0));
+        orderDto.setStreet("123 Main St");
+        orderDto.setCity("City");
+        orderDto.setState("State");
+        orderDto.setPostalCode("12345");
+        orderDto.setCountry("Country");
+        return orderDto;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.hexagonalorders.infrastructure.in.web;
+
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderItemDto;
+import com.example.hexagonalorders.infrastructure.in.web.dto.OrderPageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Lists orders through the paginated and the streaming endpoint. Not transactional, because the
+ * NDJSON stream is written on an async thread that must see the committed orders.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderControllerListingTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 18, 10, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<String> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Two orders share an order date, so the listing has to break the tie by ID
+        created.add(createOrder(START.plusHours(1)));
+        created.add(createOrder(START));
+        created.add(createOrder(START.plusHours(1)));
+        created.add(createOrder(START.plusHours(2)));
+        created.add(createOrder(START.plusHours(3)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String orderNumber : created) {
+            mockMvc.perform(delete("/api/orders/{orderNumber}", orderNumber))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    void listOrders_ShouldPageThroughAllOrdersInOrder() throws Exception {
+        // Arrange
+        List<String> expected = List.of(created.get(1), created.get(0), created.get(2), created.get(3), created.get(4));
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // Act
+        do {
+            var request = get("/api/orders").param("limit", "2").accept(MediaType.APPLICATION_JSON);
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            OrderPageDto page = objectMapper.readValue(result.getResponse().getContentAsString(), OrderPageDto.class);
+            page.getOrders().forEach(order -> listed.add(order.getOrderNumber()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expected, listed);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void listOrders_ShouldRejectInvalidLimitAndCursor() throws Exception {
+        mockMvc.perform(get("/api/orders").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders").param("limit", String.valueOf(OrderController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listOrders_ShouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.orders.length()").value(5))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void streamOrders_ShouldWriteOneOrderPerLine() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/orders").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult completed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Assert
+        List<String> streamed = new ArrayList<>();
+        for (String line : completed.getResponse().getContentAsString().split("\n")) {
+            streamed.add(objectMapper.readValue(line, OrderDto.class).getOrderNumber());
+        }
+        assertEquals(List.of(created.get(1), created.get(0), created.get(2), created.get(3), created.get(4)), streamed);
+    }
+
+    private String createOrder(LocalDateTime orderDate) throws Exception {
+        OrderItemDto itemDto = new OrderItemDto();
+        itemDto.setProductNumber("PROD-001");
+        itemDto.setQuantity(1);
+        itemDto.setUnitPrice(BigDecimal.valueOf(9.99));
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCustomerId("CUST-001");
+        orderDto.setItems(List.of(itemDto));
+        orderDto.setStatus("PENDING");
+        orderDto.setOrderDate(orderDate);
+        orderDto.setStreet("123 Main St");
+        orderDto.setCity("City");
+        orderDto.setState("State");
+        orderDto.setPostalCode("12345");
+        orderDto.setCountry("Country");
+
+        MvcResult result = mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderDto)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), OrderDto.class).getOrderNumber();
+    }
+}
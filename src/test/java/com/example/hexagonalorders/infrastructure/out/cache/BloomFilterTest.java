@@ -0,0 +1,55 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryKeyThatWasPut() {
+        // Given
+        BloomFilter filter = BloomFilter.withMemoryBudget(16 * 1024, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("ORD-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("ORD-" + i));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearTargetUpToCapacity() {
+        // Given
+        BloomFilter filter = BloomFilter.withMemoryBudget(16 * 1024, 0.01);
+        long capacity = filter.capacity();
+        for (long i = 0; i < capacity; i++) {
+            filter.put("ORD-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        int lookups = 100_000;
+        for (int i = 0; i < lookups; i++) {
+            if (filter.mightContain("UNKNOWN-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertEquals(16 * 1024, filter.sizeInBytes());
+        assertTrue(capacity > 13_000 && capacity < 14_000, "Unexpected capacity " + capacity);
+        assertTrue(falsePositives < lookups * 0.02, "False-positive rate too high: " + falsePositives);
+    }
+
+    @Test
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.withMemoryBudget(4, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.withMemoryBudget(1024, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.withMemoryBudget(1024, 1));
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingOrderRepositoryTest {
+
+    @Mock
+    private OrderRepository delegate;
+
+    @Mock
+    private OrderChangeTransport changeTransport;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderChangeChannel changeChannel;
+    private CachingOrderRepository repository;
+
+    private final OrderNumber orderNumber = new OrderNumber("ORD-001");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        changeChannel = new OrderChangeChannel();
+        repository = repository(1000);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+
+        // When
+        repository.findByOrderNumber(orderNumber);
+        repository.findByOrderNumber(orderNumber);
+
+        // Then
+        verify(delegate, times(1)).findByOrderNumber(orderNumber);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotLeakMutationsBetweenReads() {
+        // Given
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+        Order first = repository.findByOrderNumber(orderNumber).orElseThrow();
+
+        // When
+        first.confirm(first.getId());
+        first.getItems().clear();
+
+        // Then
+        Order second = repository.findByOrderNumber(orderNumber).orElseThrow();
+        assertNotSame(first, second);
+        assertEquals(OrderStatus.PENDING, second.getStatus());
+        assertEquals(1, second.getItems().size());
+        assertTrue(second.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    void shouldRememberMissingOrders() {
+        // Given
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.empty());
+
+        // When
+        repository.findByOrderNumber(orderNumber);
+        Optional<Order> second = repository.findByOrderNumber(orderNumber);
+
+        // Then
+        assertTrue(second.isEmpty());
+        verify(delegate, times(1)).findByOrderNumber(orderNumber);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "orders.negative").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldForgetMissingOrderOnceSaved() {
+        // Given
+        Order order = order(orderNumber);
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.empty(), Optional.of(order));
+        when(delegate.save(order)).thenReturn(order);
+        repository.findByOrderNumber(orderNumber);
+
+        // When
+        repository.save(order);
+
+        // Then
+        assertTrue(repository.findByOrderNumber(orderNumber).isPresent());
+    }
+
+    @Test
+    void shouldRejectUnknownOrderNumbersOnceBloomFilterIsLoaded() {
+        // Given
+        OrderNumber unknown = new OrderNumber("ORD-404");
+        when(delegate.streamOrderNumbers()).thenReturn(Stream.of(orderNumber));
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+        repository.loadKnownOrderNumbers();
+        repository.findByOrderNumber(orderNumber);
+
+        // When
+        Optional<Order> missing = repository.findByOrderNumber(unknown);
+        List<Order> found = repository.findByOrderNumbers(List.of(orderNumber, unknown));
+
+        // Then
+        assertTrue(missing.isEmpty());
+        assertEquals(1, found.size());
+        verify(delegate, never()).findByOrderNumber(unknown);
+        verify(delegate, never()).findByOrderNumbers(anyCollection());
+        assertEquals(2.0, meterRegistry.get("cache.bloom.rejections").counter().count());
+    }
+
+    @Test
+    void shouldFindOrderCreatedOnAnotherNodeOnceItsChangeIsDelivered() {
+        // Given
+        OrderNumber remote = new OrderNumber("ORD-002");
+        when(delegate.streamOrderNumbers()).thenReturn(Stream.empty());
+        repository.loadKnownOrderNumbers();
+        // Inserted by another node, without going through this repository
+        when(delegate.findByOrderNumber(remote)).thenReturn(Optional.of(order(remote)));
+        Optional<Order> beforeDelivery = repository.findByOrderNumber(remote);
+
+        // When
+        changeChannel.publish(List.of(remote));
+
+        // Then
+        assertTrue(beforeDelivery.isEmpty());
+        assertTrue(repository.findByOrderNumber(remote).isPresent());
+        verify(delegate, times(1)).findByOrderNumber(remote);
+    }
+
+    @Test
+    void shouldFindOrderWhoseChangeWasMissedOnceBloomFilterIsRebuilt() {
+        // Given
+        OrderNumber remote = new OrderNumber("ORD-002");
+        when(delegate.streamOrderNumbers()).thenReturn(Stream.empty(), Stream.of(orderNumber, remote));
+        repository.loadKnownOrderNumbers();
+        // Inserted by another node; its change is never delivered here
+        when(delegate.findByOrderNumber(remote)).thenReturn(Optional.of(order(remote)));
+        Optional<Order> beforeRebuild = repository.findByOrderNumber(remote);
+
+        // When
+        repository.loadKnownOrderNumbers();
+
+        // Then
+        assertTrue(beforeRebuild.isEmpty());
+        assertTrue(repository.findByOrderNumber(remote).isPresent());
+    }
+
+    @Test
+    void shouldAddSavedAndRemotelyChangedOrdersToBloomFilter() {
+        // Given
+        OrderNumber remote = new OrderNumber("ORD-002");
+        Order order = order(orderNumber);
+        when(delegate.streamOrderNumbers()).thenReturn(Stream.empty());
+        when(delegate.save(order)).thenReturn(order);
+        when(delegate.findByOrderNumber(any())).thenAnswer(invocation -> Optional.of(order(invocation.getArgument(0))));
+        repository.loadKnownOrderNumbers();
+
+        // When
+        repository.save(order);
+        changeChannel.publish(List.of(remote));
+
+        // Then
+        assertTrue(repository.findByOrderNumber(orderNumber).isPresent());
+        assertTrue(repository.findByOrderNumber(remote).isPresent());
+    }
+
+    @Test
+    void shouldConsultDatabaseWhenBloomFilterIsDisabled() {
+        // Given
+        repository = new CachingOrderRepository(delegate, changeChannel, changeTransport, new SimpleMeterRegistry(),
+            1000, 60000, 100, 5000, false, 0.01, 1024);
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+
+        // When
+        repository.loadKnownOrderNumbers();
+        Optional<Order> order = repository.findByOrderNumber(orderNumber);
+
+        // Then
+        assertTrue(order.isPresent());
+        verify(delegate, never()).streamOrderNumbers();
+    }
+
+    @Test
+    void shouldEvictOnWrites() {
+        // Given
+        Order order = order(orderNumber);
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order));
+        when(delegate.save(any())).thenReturn(order);
+        when(delegate.confirmIfPending(orderNumber)).thenReturn(StatusTransition.APPLIED);
+
+        // When
+        repository.findByOrderNumber(orderNumber);
+        repository.save(order);
+        repository.findByOrderNumber(orderNumber);
+        repository.confirmIfPending(orderNumber);
+        repository.findByOrderNumber(orderNumber);
+        repository.deleteByOrderNumber(orderNumber);
+        repository.findByOrderNumber(orderNumber);
+
+        // Then
+        verify(delegate, times(4)).findByOrderNumber(orderNumber);
+        verify(changeTransport, times(3)).send(orderNumber);
+    }
+
+    @Test
+    void shouldNotSendChangeWhenConfirmIsNotApplied() {
+        // Given
+        when(delegate.confirmIfPending(orderNumber)).thenReturn(StatusTransition.INVALID_STATE);
+
+        // When
+        repository.confirmIfPending(orderNumber);
+
+        // Then
+        verifyNoInteractions(changeTransport);
+    }
+
+    @Test
+    void shouldEvictOrdersChangedOnOtherNodes() {
+        // Given
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+        repository.findByOrderNumber(orderNumber);
+
+        // When
+        changeChannel.publish(List.of(orderNumber));
+        repository.findByOrderNumber(orderNumber);
+
+        // Then
+        verify(delegate, times(2)).findByOrderNumber(orderNumber);
+    }
+
+    @Test
+    void shouldLoadOnlyMissingOrdersInMultiGet() {
+        // Given
+        OrderNumber other = new OrderNumber("ORD-002");
+        when(delegate.findByOrderNumber(orderNumber)).thenReturn(Optional.of(order(orderNumber)));
+        when(delegate.findByOrderNumbers(anyCollection())).thenReturn(List.of(order(other)));
+        repository.findByOrderNumber(orderNumber);
+
+        // When
+        List<Order> orders = repository.findByOrderNumbers(List.of(orderNumber, other));
+
+        // Then
+        assertEquals(2, orders.size());
+        verify(delegate).findByOrderNumbers(List.of(other));
+    }
+
+    @Test
+    void shouldNotKeepOrdersEvictedWhileTheirBulkLoadRuns() {
+        // Given
+        when(delegate.streamOrderNumbers()).thenReturn(Stream.of(orderNumber));
+        repository.loadKnownOrderNumbers();
+        when(delegate.findByOrderNumbers(anyCollection())).thenAnswer(invocation -> {
+            // Confirmed on another node after the query read the order, before it is cached
+            changeChannel.publish(List.of(orderNumber));
+            return List.of(order(orderNumber));
+        });
+
+        // When
+        repository.findByOrderNumbers(List.of(orderNumber));
+        repository.findByOrderNumbers(List.of(orderNumber));
+
+        // Then
+        verify(delegate, times(2)).findByOrderNumbers(anyCollection());
+    }
+
+    @Test
+    void shouldBoundCacheByWeight() {
+        // Given
+        meterRegistry = new SimpleMeterRegistry();
+        repository = repository(10);
+        when(delegate.findByOrderNumber(any())).thenAnswer(invocation -> Optional.of(order(invocation.getArgument(0))));
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            repository.findByOrderNumber(new OrderNumber("ORD-" + i));
+        }
+        repository.cleanUp();
+
+        // Then
+        double evictions = meterRegistry.get("cache.evictions").tag("cache", "orders").functionCounter().count();
+        assertTrue(evictions > 0, "Expected evictions but got " + evictions);
+    }
+
+    private CachingOrderRepository repository(long maxWeight) {
+        return new CachingOrderRepository(delegate, changeChannel, changeTransport, meterRegistry,
+            maxWeight, 60000, 100, 5000, true, 0.01, 1024);
+    }
+
+    private Order order(OrderNumber number) {
+        List<OrderItem> items = new ArrayList<>(List.of(
+            new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99"))));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(1L, number, "CUST-001", LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING, 0L);
+    }
+}
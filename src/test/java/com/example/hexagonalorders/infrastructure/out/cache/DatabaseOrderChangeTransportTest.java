@@ -0,0 +1,131 @@
+package com.example.hexagonalorders.infrastructure.out.cache;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.out.OrderRepository;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderChangeJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.repository.OrderChangeJpaRepository;
+import com.example.hexagonalorders.infrastructure.out.persistence.repository.OrderJpaRepository;
+import com.example.hexagonalorders.infrastructure.out.persistence.repository.OrderRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cluster-wide eviction through the order_changes table. The application's order repository
+ * plays the node that changes orders; a second cache with its own channel and transport, built
+ * on the same database, plays another node. Not transactional, so that every change commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DatabaseOrderChangeTransportTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderChangeJpaRepository changeRepository;
+
+    @Autowired
+    private DatabaseOrderChangeTransport transport;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private DatabaseOrderChangeTransport otherNodeTransport;
+    private CachingOrderRepository otherNodeCache;
+
+    @BeforeEach
+    void setUp() {
+        OrderChangeChannel otherNodeChannel = new OrderChangeChannel();
+        otherNodeTransport = new DatabaseOrderChangeTransport(changeRepository, otherNodeChannel, 5000, 600000);
+        otherNodeCache = new CachingOrderRepository(orderRepositoryAdapter, otherNodeChannel, otherNodeTransport,
+            new SimpleMeterRegistry(), 1000, 60000, 100, 5000, false, 0.01, 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderJpaRepository.deleteAll();
+        changeRepository.deleteAll();
+    }
+
+    @Test
+    void poll_ShouldEvictOrderConfirmedOnAnotherNode() {
+        // Given
+        OrderNumber orderNumber = orderRepository.save(order("ORD-001")).getOrderNumber();
+        assertEquals(OrderStatus.PENDING, otherNodeCache.findByOrderNumber(orderNumber).orElseThrow().getStatus());
+        orderRepository.confirmIfPending(orderNumber);
+        assertEquals(OrderStatus.PENDING, otherNodeCache.findByOrderNumber(orderNumber).orElseThrow().getStatus());
+
+        // When
+        int delivered = otherNodeTransport.poll();
+
+        // Then
+        assertEquals(1, delivered);
+        assertEquals(OrderStatus.CONFIRMED, otherNodeCache.findByOrderNumber(orderNumber).orElseThrow().getStatus());
+        assertEquals(0, otherNodeTransport.poll());
+    }
+
+    @Test
+    void poll_ShouldNotDeliverRolledBackChanges() {
+        // Given
+        OrderNumber orderNumber = orderRepository.save(order("ORD-001")).getOrderNumber();
+        otherNodeTransport.poll();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.deleteByOrderNumber(orderNumber);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(0, otherNodeTransport.poll());
+        assertTrue(otherNodeCache.findByOrderNumber(orderNumber).isPresent());
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteChangesOlderThanRetention() {
+        // Given
+        changeRepository.save(new OrderChangeJpaEntity("ORD-OLD", Instant.now().minus(Duration.ofHours(1))));
+        changeRepository.save(new OrderChangeJpaEntity("ORD-NEW", Instant.now()));
+
+        // When
+        int deleted = transport.purgeExpired();
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(List.of("ORD-NEW"),
+            changeRepository.findAll().stream().map(OrderChangeJpaEntity::getOrderNumber).toList());
+    }
+
+    private Order order(String orderNumber) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(new OrderNumber(orderNumber), "CUST-001", LocalDateTime.now(), items, shippingAddress,
+            OrderStatus.PENDING);
+    }
+}
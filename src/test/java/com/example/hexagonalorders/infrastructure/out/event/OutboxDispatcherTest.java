@@ -0,0 +1,101 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.application.event.OutboxMessageSavedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives the dispatcher through real transactions, with the processor replaced by a mock
+ * that records the drains.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+    @MockBean
+    private OutboxProcessor outboxProcessor;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldDrainOnceTheTransactionCommits() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(savedEvent());
+            // Not before the commit
+            verify(outboxProcessor, after(200).never()).processOutboxMessages();
+        });
+
+        // Then
+        verify(outboxProcessor, timeout(5000)).processOutboxMessages();
+    }
+
+    @Test
+    void shouldNotDrainWhenTheTransactionRollsBack() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(savedEvent());
+            status.setRollbackOnly();
+        });
+
+        // Then
+        verify(outboxProcessor, after(500).never()).processOutboxMessages();
+    }
+
+    @Test
+    void shouldCoalesceSignalsThatArriveDuringADrain() throws InterruptedException {
+        // Given
+        CountDownLatch drainStarted = new CountDownLatch(1);
+        CountDownLatch finishDrain = new CountDownLatch(1);
+        when(outboxProcessor.processOutboxMessages())
+            .thenAnswer(invocation -> {
+                drainStarted.countDown();
+                assertTrue(finishDrain.await(5, TimeUnit.SECONDS));
+                return 10;
+            })
+            .thenReturn(0);
+        outboxDispatcher.signal();
+        assertTrue(drainStarted.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            outboxDispatcher.signal();
+        }
+        finishDrain.countDown();
+
+        // Then
+        // The running drain plus exactly one more for all signals that arrived during it
+        verify(outboxProcessor, timeout(5000).times(2)).processOutboxMessages();
+        verify(outboxProcessor, after(300).times(2)).processOutboxMessages();
+    }
+
+    private static OutboxMessageSavedEvent savedEvent() {
+        return new OutboxMessageSavedEvent(UUID.randomUUID(), "Order", "OrderConfirmedIntegrationEvent");
+    }
+}
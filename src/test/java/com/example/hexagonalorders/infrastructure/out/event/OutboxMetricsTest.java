@@ -0,0 +1,80 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxBacklog;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxMetricsTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void refreshBacklog_ShouldPublishGaugePerTypeAndStatus() {
+        // Given
+        OutboxMetrics metrics = new OutboxMetrics(outboxRepository, meterRegistry);
+        Instant now = Instant.now();
+        when(outboxRepository.summarizeBacklog()).thenReturn(List.of(
+            new OutboxBacklog("Order", "OrderConfirmed", OutboxStatus.PENDING, 3, now.minusSeconds(120)),
+            new OutboxBacklog("Order", "OrderConfirmed", OutboxStatus.DEAD_LETTER, 1, now.minusSeconds(3600))));
+
+        // When
+        metrics.refreshBacklog();
+
+        // Then
+        assertEquals(3, meterRegistry.get("outbox.messages").tag("status", "PENDING").gauge().value());
+        assertEquals(1, meterRegistry.get("outbox.messages").tag("status", "DEAD_LETTER").gauge().value());
+        double age = meterRegistry.get("outbox.oldest.pending.age").gauge().value();
+        assertTrue(age >= 120 && age < 3600, "age was " + age);
+    }
+
+    @Test
+    void refreshBacklog_ShouldRemoveGaugesOfDrainedGroups() {
+        // Given
+        OutboxMetrics metrics = new OutboxMetrics(outboxRepository, meterRegistry);
+        when(outboxRepository.summarizeBacklog())
+            .thenReturn(List.of(new OutboxBacklog("Order", "OrderConfirmed", OutboxStatus.PENDING, 3, Instant.now())))
+            .thenReturn(List.of());
+
+        // When
+        metrics.refreshBacklog();
+        metrics.refreshBacklog();
+
+        // Then
+        assertNull(meterRegistry.find("outbox.messages").gauge());
+        assertEquals(0, meterRegistry.get("outbox.oldest.pending.age").gauge().value());
+    }
+
+    @Test
+    void timers_ShouldRecordBatchesPublishesAndDatabaseCalls() {
+        // Given
+        OutboxMetrics metrics = new OutboxMetrics(outboxRepository, meterRegistry);
+
+        // When
+        metrics.recordBatch(10);
+        metrics.timePublish("publishBatch", () -> null);
+        metrics.timePublishAsync("publishAsync", () -> CompletableFuture.completedFuture(null));
+        metrics.timeDb("markProcessed", () -> { });
+
+        // Then
+        assertEquals(10, meterRegistry.get("outbox.batch.size").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("outbox.publish.latency").tag("operation", "publishBatch").timer().count());
+        assertEquals(1, meterRegistry.get("outbox.publish.latency").tag("operation", "publishAsync").timer().count());
+        assertEquals(1, meterRegistry.get("outbox.db.time").tag("operation", "markProcessed").timer().count());
+    }
+}
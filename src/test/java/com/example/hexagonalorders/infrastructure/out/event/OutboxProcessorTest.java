@@ -0,0 +1,203 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.MessagePublisher;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import com.example.hexagonalorders.domain.port.out.ScheduledRetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxProcessorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxPublishingLanes publishingLanes = new OutboxPublishingLanes(1, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publishingLanes.shutdown();
+    }
+
+    @Test
+    void processOutboxMessages_ShouldWriteEachFailureOutcomeOfABatchInBulk() {
+        // Given
+        UUID failingAggregate = UUID.randomUUID();
+        OutboxMessage retried = message(failingAggregate, "retried", 0);
+        OutboxMessage skipped = message(failingAggregate, "skipped", 0);
+        OutboxMessage retriedToo = message(UUID.randomUUID(), "retried-too", 1);
+        OutboxMessage exhausted = message(UUID.randomUUID(), "exhausted", MAX_ATTEMPTS - 1);
+        OutboxMessage published = message(UUID.randomUUID(), "published", 0);
+        when(outboxRepository.claimPending(anyString(), anyInt(), any(Duration.class)))
+            .thenReturn(List.of(retried, skipped, retriedToo, exhausted, published));
+        Set<String> failingPayloads = Set.of("retried", "retried-too", "exhausted");
+        OutboxProcessor processor = processor((topic, payload) -> {
+            if (failingPayloads.contains(payload.text())) {
+                throw new IllegalStateException("broker down");
+            }
+        });
+
+        // When
+        int processed = processor.processOutboxMessages();
+
+        // Then
+        assertEquals(5, processed);
+        verify(outboxRepository).markProcessed(List.of(published.id()));
+        verify(outboxRepository).release(List.of(skipped.id()));
+        ArgumentCaptor<Collection<ScheduledRetry>> retries = retriesCaptor();
+        verify(outboxRepository).scheduleRetries(retries.capture());
+        assertEquals(List.of(retried.id(), retriedToo.id()), retries.getValue().stream().map(ScheduledRetry::id).toList());
+        assertTrue(retries.getValue().stream().allMatch(retry -> retry.nextAttemptAt().isAfter(Instant.now())));
+        verify(outboxRepository).markDeadLetter(List.of(exhausted.id()), new IllegalStateException("broker down").toString());
+    }
+
+    @Test
+    void processOutboxMessages_ShouldMarkDeadLettersWithOneUpdatePerError() {
+        // Given
+        OutboxMessage rejected = message(UUID.randomUUID(), "rejected", MAX_ATTEMPTS - 1);
+        OutboxMessage rejectedToo = message(UUID.randomUUID(), "rejected-too", MAX_ATTEMPTS - 1);
+        OutboxMessage timedOut = message(UUID.randomUUID(), "timed-out", MAX_ATTEMPTS - 1);
+        when(outboxRepository.claimPending(anyString(), anyInt(), any(Duration.class)))
+            .thenReturn(List.of(rejected, rejectedToo, timedOut));
+        OutboxProcessor processor = processor((topic, payload) -> {
+            throw new IllegalStateException(payload.text().startsWith("rejected") ? "payload rejected" : "timed out");
+        });
+
+        // When
+        processor.processOutboxMessages();
+
+        // Then
+        verify(outboxRepository).markDeadLetter(List.of(rejected.id(), rejectedToo.id()),
+            new IllegalStateException("payload rejected").toString());
+        verify(outboxRepository).markDeadLetter(List.of(timedOut.id()), new IllegalStateException("timed out").toString());
+        verify(outboxRepository, never()).scheduleRetries(any());
+        verify(outboxRepository, never()).markProcessed(anyList());
+    }
+
+    @Test
+    void pollOutbox_ShouldDoubleTheIntervalWhileIdleUpToTheMaximum() throws InterruptedException {
+        // Given
+        when(outboxRepository.claimPending(anyString(), anyInt(), any(Duration.class))).thenReturn(List.of());
+        OutboxProcessor processor = processor((topic, payload) -> { }, 100, 800);
+        List<Long> backoffs = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            processor.pollOutbox();
+            backoffs.add(processor.pollBackoffMs());
+            // Skipped: the scheduler's own delay has not been extended by the backoff yet
+            processor.pollOutbox();
+            // The scheduler waits the poll interval itself; wait out the rest of the backoff
+            Thread.sleep(processor.pollBackoffMs() - 100 + 20);
+        }
+
+        // Then
+        assertEquals(List.of(200L, 400L, 800L, 800L), backoffs);
+        verify(outboxRepository, times(4)).claimPending(anyString(), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    void pollOutbox_ShouldResetTheIntervalOnceAPollFindsWork() throws InterruptedException {
+        // Given
+        when(outboxRepository.claimPending(anyString(), anyInt(), any(Duration.class)))
+            .thenReturn(List.of(), List.of(), List.of(message(UUID.randomUUID(), "published", 0)), List.of());
+        OutboxProcessor processor = processor((topic, payload) -> { }, 100, 800);
+        processor.pollOutbox();
+        Thread.sleep(processor.pollBackoffMs() - 100 + 20);
+        processor.pollOutbox();
+        assertEquals(400, processor.pollBackoffMs());
+        Thread.sleep(processor.pollBackoffMs() - 100 + 20);
+
+        // When
+        processor.pollOutbox();
+
+        // Then
+        assertEquals(100, processor.pollBackoffMs());
+        // Due again right away: the next scheduled invocation polls
+        processor.pollOutbox();
+        verify(outboxRepository, times(4)).claimPending(anyString(), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    void pollOutbox_ShouldSkipWhileADrainIsRunning() throws InterruptedException {
+        // Given
+        CountDownLatch drainStarted = new CountDownLatch(1);
+        CountDownLatch finishDrain = new CountDownLatch(1);
+        when(outboxRepository.claimPending(anyString(), anyInt(), any(Duration.class))).thenAnswer(invocation -> {
+            drainStarted.countDown();
+            assertTrue(finishDrain.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+        OutboxProcessor processor = processor((topic, payload) -> { }, 100, 800);
+        Thread drain = new Thread(processor::processOutboxMessages);
+        drain.start();
+        assertTrue(drainStarted.await(5, TimeUnit.SECONDS));
+
+        // When
+        processor.pollOutbox();
+        finishDrain.countDown();
+        drain.join(5000);
+
+        // Then
+        verify(outboxRepository, times(1)).claimPending(anyString(), anyInt(), any(Duration.class));
+        assertEquals(100, processor.pollBackoffMs());
+    }
+
+    private OutboxProcessor processor(MessagePublisher messagePublisher) {
+        return processor(messagePublisher, 1000, 30_000);
+    }
+
+    private OutboxProcessor processor(MessagePublisher messagePublisher, long pollIntervalMs, long maxPollBackoffMs) {
+        return new OutboxProcessor(
+            outboxRepository,
+            messagePublisher,
+            new OutboxRetryPolicy(MAX_ATTEMPTS, 1000, 2.0, 60_000, 0),
+            new OutboxMetrics(outboxRepository, meterRegistry),
+            publishingLanes,
+            new OutboxPublishingPipeline(16, meterRegistry),
+            false,
+            10,
+            30_000,
+            "node-a",
+            pollIntervalMs,
+            maxPollBackoffMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<ScheduledRetry>> retriesCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static OutboxMessage message(UUID aggregateId, String payload, int attempts) {
+        Instant createdAt = Instant.now();
+        return new OutboxMessage(UUID.randomUUID(), "Order", aggregateId, "OrderConfirmedIntegrationEvent",
+            EncodedPayload.json(payload), OutboxStatus.IN_FLIGHT, createdAt, null, attempts, createdAt, null);
+    }
+}
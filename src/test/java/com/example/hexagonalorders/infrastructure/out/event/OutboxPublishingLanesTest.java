@@ -0,0 +1,103 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxPublishingLanesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxPublishingLanes lanes = new OutboxPublishingLanes(4, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lanes.shutdown();
+    }
+
+    @Test
+    void shouldKeepMessagesOfAnAggregateInOrder() {
+        // Given
+        List<UUID> aggregates = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<OutboxMessage> batch = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (UUID aggregateId : aggregates) {
+                batch.add(message(aggregateId));
+            }
+        }
+        List<OutboxMessage> published = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        Map<UUID, Exception> failures = lanes.publish(batch, slice -> {
+            published.addAll(slice);
+            return Map.of();
+        });
+
+        // Then
+        assertTrue(failures.isEmpty());
+        assertEquals(batch.size(), published.size());
+        for (UUID aggregateId : aggregates) {
+            assertEquals(idsOf(batch, aggregateId), idsOf(published, aggregateId));
+        }
+        assertEquals(batch.size(), meterRegistry.get("outbox.lane.messages").tag("outcome", "success")
+            .counters().stream().mapToDouble(c -> c.count()).sum());
+    }
+
+    @Test
+    void shouldKeepEachAggregateOnOneLaneAndMergeFailures() {
+        // Given
+        List<OutboxMessage> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UUID aggregateId = UUID.randomUUID();
+            batch.add(message(aggregateId));
+            batch.add(message(aggregateId));
+        }
+        List<List<OutboxMessage>> slices = Collections.synchronizedList(new ArrayList<>());
+        RuntimeException failure = new RuntimeException("broker down");
+
+        // When
+        Map<UUID, Exception> failures = lanes.publish(batch, slice -> {
+            slices.add(slice);
+            return Map.of(slice.get(0).id(), failure);
+        });
+
+        // Then
+        assertTrue(slices.size() <= 4);
+        for (OutboxMessage message : batch) {
+            long slicesWithAggregate = slices.stream()
+                .filter(slice -> slice.stream().anyMatch(m -> m.aggregateId().equals(message.aggregateId())))
+                .count();
+            assertEquals(1, slicesWithAggregate);
+        }
+        assertEquals(slices.size(), failures.size());
+        slices.forEach(slice -> assertSame(failure, failures.get(slice.get(0).id())));
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxPublishingLanes(0, meterRegistry));
+    }
+
+    private static List<UUID> idsOf(List<OutboxMessage> messages, UUID aggregateId) {
+        return messages.stream()
+            .filter(m -> m.aggregateId().equals(aggregateId))
+            .map(OutboxMessage::id)
+            .collect(Collectors.toList());
+    }
+
+    private static OutboxMessage message(UUID aggregateId) {
+        return new OutboxMessage(UUID.randomUUID(), "Order", aggregateId, "OrderConfirmed",
+            "{}", OutboxStatus.IN_FLIGHT, Instant.now(), null);
+    }
+}
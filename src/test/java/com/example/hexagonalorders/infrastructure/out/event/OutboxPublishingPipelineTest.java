@@ -0,0 +1,175 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.DeliverySkippedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxPublishingPipelineTest {
+
+    private final ExecutorService broker = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdownNow();
+    }
+
+    @Test
+    void shouldKeepMessagesOfAnAggregateInOrderAndBoundTheWindow() throws InterruptedException {
+        // Given
+        OutboxPublishingPipeline pipeline = new OutboxPublishingPipeline(3, new SimpleMeterRegistry());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            messages.add(message(first));
+            messages.add(message(second));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<OutboxMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        List<UUID> completed = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        for (OutboxMessage message : messages) {
+            pipeline.submit(message, m -> CompletableFuture.runAsync(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sent.add(m);
+                sleep(2);
+                inFlight.decrementAndGet();
+            }, broker), (m, failure) -> {
+                assertNull(failure);
+                completed.add(m.id());
+            });
+        }
+        pipeline.awaitIdle();
+
+        // Then
+        assertEquals(messages.size(), completed.size());
+        assertTrue(maxInFlight.get() <= 3);
+        for (UUID aggregateId : List.of(first, second)) {
+            assertEquals(idsOf(messages, aggregateId), idsOf(sent, aggregateId));
+        }
+    }
+
+    @Test
+    void shouldNotSendLaterMessagesOfAnAggregateAfterAFailure() throws InterruptedException {
+        // Given
+        OutboxPublishingPipeline pipeline = new OutboxPublishingPipeline(8, new SimpleMeterRegistry());
+        UUID aggregateId = UUID.randomUUID();
+        OutboxMessage failing = message(aggregateId);
+        OutboxMessage next = message(aggregateId);
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        List<OutboxMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        Map<UUID, Throwable> failures = new ConcurrentHashMap<>();
+
+        // When: the later message is submitted while the failing one is still in flight
+        pipeline.submit(failing, m -> {
+            sent.add(m);
+            return delivery;
+        }, (m, failure) -> failures.put(m.id(), failure));
+        pipeline.submit(next, m -> {
+            sent.add(m);
+            return CompletableFuture.completedFuture(null);
+        }, (m, failure) -> failures.put(m.id(), failure));
+        delivery.completeExceptionally(new IllegalStateException("broker down"));
+        pipeline.awaitIdle();
+
+        // Then
+        assertEquals(List.of(failing), sent);
+        assertEquals("broker down", failures.get(failing.id()).getMessage());
+        assertInstanceOf(DeliverySkippedException.class, failures.get(next.id()));
+    }
+
+    @Test
+    void shouldNotSendLaterMessagesOfAnAggregateAfterACompletedFailure() throws InterruptedException {
+        // Given
+        OutboxPublishingPipeline pipeline = new OutboxPublishingPipeline(8, new SimpleMeterRegistry());
+        UUID aggregateId = UUID.randomUUID();
+        OutboxMessage failing = message(aggregateId);
+        OutboxMessage next = message(aggregateId);
+        List<OutboxMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        Map<UUID, Throwable> failures = new ConcurrentHashMap<>();
+        pipeline.submit(failing, m -> {
+            sent.add(m);
+            return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+        }, (m, failure) -> failures.put(m.id(), failure));
+        assertTrue(failures.containsKey(failing.id()), "the failed message has already completed");
+
+        // When
+        pipeline.submit(next, m -> {
+            sent.add(m);
+            return CompletableFuture.completedFuture(null);
+        }, (m, failure) -> failures.put(m.id(), failure));
+        pipeline.awaitIdle();
+
+        // Then
+        assertEquals(List.of(failing), sent);
+        assertInstanceOf(DeliverySkippedException.class, failures.get(next.id()));
+    }
+
+    @Test
+    void shouldSendMessagesOfAFailedAggregateAgainOnceFailuresAreCleared() throws InterruptedException {
+        // Given
+        OutboxPublishingPipeline pipeline = new OutboxPublishingPipeline(8, new SimpleMeterRegistry());
+        UUID aggregateId = UUID.randomUUID();
+        pipeline.submit(message(aggregateId),
+            m -> CompletableFuture.failedFuture(new IllegalStateException("broker down")), (m, failure) -> { });
+        pipeline.awaitIdle();
+        List<OutboxMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        OutboxMessage retried = message(aggregateId);
+
+        // When
+        pipeline.clearFailures();
+        pipeline.submit(retried, m -> {
+            sent.add(m);
+            return CompletableFuture.completedFuture(null);
+        }, (m, failure) -> assertNull(failure));
+        pipeline.awaitIdle();
+
+        // Then
+        assertEquals(List.of(retried), sent);
+    }
+
+    @Test
+    void shouldRejectInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxPublishingPipeline(0, new SimpleMeterRegistry()));
+    }
+
+    private static List<UUID> idsOf(List<OutboxMessage> messages, UUID aggregateId) {
+        return messages.stream()
+            .filter(m -> m.aggregateId().equals(aggregateId))
+            .map(OutboxMessage::id)
+            .toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OutboxMessage message(UUID aggregateId) {
+        return new OutboxMessage(UUID.randomUUID(), "Order", aggregateId, "OrderConfirmed",
+            "{}", OutboxStatus.IN_FLIGHT, Instant.now(), null);
+    }
+}
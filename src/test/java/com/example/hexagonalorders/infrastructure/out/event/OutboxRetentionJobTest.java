@@ -0,0 +1,92 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxPartitionRepository;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionJobTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxPartitionRepository partitionRepository;
+
+    @Test
+    void purgeExpired_ShouldDeleteInChunksUntilChunkIsNotFull() {
+        // Given
+        OutboxRetentionJob job = new OutboxRetentionJob(outboxRepository, partitionRepository, 1000, 0, 0, 2, 7);
+        when(outboxRepository.deleteProcessedBefore(eq(OutboxStatus.PROCESSED), any(), eq(2)))
+            .thenReturn(2, 2, 1);
+
+        // When
+        int deleted = job.purgeExpired();
+
+        // Then
+        assertEquals(5, deleted);
+        verify(outboxRepository, times(3)).deleteProcessedBefore(eq(OutboxStatus.PROCESSED), any(), eq(2));
+        verifyNoMoreInteractions(outboxRepository);
+    }
+
+    @Test
+    void purgeExpired_ShouldUseRetentionWindowPerStatus() {
+        // Given
+        OutboxRetentionJob job = new OutboxRetentionJob(outboxRepository, partitionRepository, 1000, 60000, 0, 10, 7);
+        Instant before = Instant.now();
+
+        // When
+        job.purgeExpired();
+
+        // Then
+        verify(outboxRepository).deleteProcessedBefore(eq(OutboxStatus.PROCESSED),
+            argThat(cutoff -> !cutoff.isAfter(Instant.now().minus(Duration.ofMillis(1000)))
+                && !cutoff.isBefore(before.minus(Duration.ofMillis(1000)))), eq(10));
+        verify(outboxRepository).deleteProcessedBefore(eq(OutboxStatus.DEAD_LETTER),
+            argThat(cutoff -> !cutoff.isBefore(before.minus(Duration.ofMillis(60000)))), eq(10));
+        verify(outboxRepository, never()).deleteProcessedBefore(eq(OutboxStatus.FAILED), any(), anyInt());
+    }
+
+    @Test
+    void purgeExpired_ShouldDropExpiredPartitionsInsteadOfDeletingRows() {
+        // Given
+        OutboxRetentionJob job = new OutboxRetentionJob(outboxRepository, partitionRepository, 1000, 60000, 0, 10, 3);
+        when(partitionRepository.isPartitioned()).thenReturn(true);
+        when(partitionRepository.dropExpiredPartitions(anyMap(), any())).thenReturn(42);
+        Instant before = Instant.now();
+
+        // When
+        int removed = job.purgeExpired();
+
+        // Then
+        assertEquals(42, removed);
+        verify(partitionRepository).createPartitionsUntil(LocalDate.ofInstant(Instant.now(), ZoneOffset.UTC).plusDays(3));
+        verify(partitionRepository).dropExpiredPartitions(argThat((Map<OutboxStatus, Instant> cutoffs) ->
+            cutoffs.keySet().equals(Set.of(OutboxStatus.PROCESSED, OutboxStatus.DEAD_LETTER))
+                && !cutoffs.get(OutboxStatus.DEAD_LETTER).isBefore(before.minus(Duration.ofMillis(60000)))), any());
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void shouldRejectNonPositivePartitionsAhead() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new OutboxRetentionJob(outboxRepository, partitionRepository, 1000, 0, 0, 10, 0));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hexagonalorders.infrastructure.out.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxRetryPolicyTest {
+
+    @Test
+    void shouldRetryUntilMaxAttemptsIsReached() {
+        // Given
+        OutboxRetryPolicy policy = new OutboxRetryPolicy(3, 1000, 2.0, 60000, 0);
+
+        // When & Then
+        assertTrue(policy.shouldRetry(1));
+        assertTrue(policy.shouldRetry(2));
+        assertFalse(policy.shouldRetry(3));
+    }
+
+    @Test
+    void shouldGrowBackoffExponentially() {
+        // Given
+        OutboxRetryPolicy policy = new OutboxRetryPolicy(10, 1000, 2.0, 60000, 0);
+
+        // When & Then
+        assertEquals(Duration.ofMillis(1000), policy.backoff(1));
+        assertEquals(Duration.ofMillis(2000), policy.backoff(2));
+        assertEquals(Duration.ofMillis(4000), policy.backoff(3));
+    }
+
+    @Test
+    void shouldCapBackoffAtMaximum() {
+        // Given
+        OutboxRetryPolicy policy = new OutboxRetryPolicy(20, 1000, 2.0, 5000, 0);
+
+        // When & Then
+        assertEquals(Duration.ofMillis(5000), policy.backoff(10));
+    }
+
+    @Test
+    void shouldKeepJitteredBackoffWithinBounds() {
+        // Given
+        OutboxRetryPolicy policy = new OutboxRetryPolicy(10, 1000, 2.0, 60000, 0.2);
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            long backoff = policy.backoff(1).toMillis();
+            assertTrue(backoff >= 800 && backoff <= 1200, "Backoff out of jitter bounds: " + backoff);
+        }
+    }
+
+    @Test
+    void shouldRejectMaxAttemptsBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxRetryPolicy(0, 1000, 2.0, 60000, 0));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLogPublisherTest {
+
+    private static final String TOPIC = "Order.OrderConfirmedIntegrationEvent";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadRecordsInOrderAcrossSegments() throws IOException {
+        // Given
+        MappedLogPublisher publisher = new MappedLogPublisher(directory, 256, 0, 0);
+        List<String> published = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String payload = "{\"orderNumber\":\"ORD-" + i + "\"}";
+            publisher.publish(TOPIC, payload);
+            published.add(payload);
+        }
+
+        // When
+        List<MappedLogRecord> records = publisher.openReader(TOPIC, 0).poll(100);
+
+        // Then
+        assertEquals(published, records.stream().map(r -> r.payload().text()).toList());
+        assertTrue(segmentCount() > 1);
+        publisher.close();
+    }
+
+    @Test
+    void shouldResumeFromSavedOffset() {
+        // Given
+        MappedLogPublisher publisher = new MappedLogPublisher(directory, 256, 1, 0);
+        for (int i = 0; i < 20; i++) {
+            publisher.publish(TOPIC, "{\"n\":" + i + "}");
+        }
+        MappedLogReader reader = publisher.openReader(TOPIC, 0);
+        List<MappedLogRecord> first = reader.poll(5);
+        long savedOffset = reader.offset();
+
+        // When
+        List<MappedLogRecord> rest = publisher.openReader(TOPIC, savedOffset).poll(100);
+
+        // Then
+        assertEquals(5, first.size());
+        assertEquals(first.get(4).nextOffset(), savedOffset);
+        assertEquals(15, rest.size());
+        assertEquals("{\"n\":5}", rest.get(0).payload().text());
+        publisher.close();
+    }
+
+    @Test
+    void shouldTailRecordsAppendedAfterCatchingUp() {
+        // Given
+        MappedLogPublisher publisher = new MappedLogPublisher(directory, 128, 0, 0);
+        MappedLogReader reader = publisher.openReader(TOPIC, 0);
+        assertTrue(reader.poll(10).isEmpty());
+
+        // When
+        List<String> read = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(TOPIC, "{\"n\":" + i + "}");
+            reader.poll(10).forEach(record -> read.add(record.payload().text()));
+        }
+
+        // Then
+        assertEquals(10, read.size());
+        assertEquals("{\"n\":9}", read.get(9));
+        publisher.close();
+    }
+
+    @Test
+    void shouldContinueLogAfterRestart() {
+        // Given
+        MappedLogPublisher publisher = new MappedLogPublisher(directory, 256, 0, 0);
+        publisher.publish(TOPIC, "{\"n\":1}");
+        publisher.close();
+
+        // When
+        MappedLogPublisher restarted = new MappedLogPublisher(directory, 256, 0, 0);
+        restarted.publish(TOPIC, new EncodedPayload(new byte[] {1, 2, 3}, "application/cbor", EncodedPayload.GZIP));
+
+        // Then
+        List<MappedLogRecord> records = restarted.openReader(TOPIC, 0).poll(10);
+        assertEquals(2, records.size());
+        assertEquals("{\"n\":1}", records.get(0).payload().text());
+        assertEquals(new EncodedPayload(new byte[] {1, 2, 3}, "application/cbor", EncodedPayload.GZIP),
+                     records.get(1).payload());
+        restarted.close();
+    }
+
+    @Test
+    void shouldRejectRecordsLargerThanASegment() {
+        MappedLogPublisher publisher = new MappedLogPublisher(directory, 64, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> publisher.publish(TOPIC, "x".repeat(100)));
+        publisher.close();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve(TOPIC))) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.hexagonalorders.infrastructure.out.messaging;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatedBrokerPublisherTest {
+
+    private static final String TOPIC = "Order.OrderConfirmedIntegrationEvent";
+
+    private SimulatedBrokerPublisher broker;
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    void shouldDeliverMessagesToSubscribersInOrder() throws InterruptedException {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 1, 0.0, 0, 100, 42);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch delivered = new CountDownLatch(10);
+        broker.subscribe(TOPIC, payload -> {
+            received.add(payload.text());
+            delivered.countDown();
+        });
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            broker.publish(TOPIC, "{\"n\":" + i + "}");
+        }
+
+        // Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals("{\"n\":0}", received.get(0));
+        assertEquals("{\"n\":9}", received.get(9));
+    }
+
+    @Test
+    void shouldFailEveryPublishAtFullFailureRate() {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 1.0, 0, 100, 42);
+
+        // When & Then
+        assertThrows(SimulatedBrokerPublisher.BrokerException.class, () -> broker.publish(TOPIC, "{}"));
+    }
+
+    @Test
+    void shouldThrottlePublishesAboveRate() {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 0.0, 2, 100, 42);
+
+        // When
+        broker.publish(TOPIC, "{}");
+        broker.publish(TOPIC, "{}");
+
+        // Then
+        SimulatedBrokerPublisher.BrokerException failure =
+            assertThrows(SimulatedBrokerPublisher.BrokerException.class, () -> broker.publish(TOPIC, "{}"));
+        assertTrue(failure.getMessage().startsWith("Throttled"));
+    }
+
+    @Test
+    void shouldPushBackWhenSlowSubscriberFillsQueue() throws InterruptedException {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 0.0, 0, 2, 42);
+        CountDownLatch release = new CountDownLatch(1);
+        broker.subscribe(TOPIC, payload -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        int rejected = 0;
+        for (int i = 0; i < 10; i++) {
+            try {
+                broker.publish(TOPIC, "{}");
+            } catch (SimulatedBrokerPublisher.BrokerException e) {
+                rejected++;
+            }
+        }
+        release.countDown();
+
+        // Then
+        assertTrue(rejected >= 7, "rejected " + rejected);
+    }
+
+    @Test
+    void shouldCompleteAsyncPublishAfterSimulatedLatency() {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 50, 0.0, 0, 100, 42);
+        long start = System.nanoTime();
+
+        // When
+        CompletableFuture<Void> acknowledgement = broker.publishAsync(TOPIC, EncodedPayload.json("{}"));
+
+        // Then
+        assertFalse(acknowledgement.isDone());
+        acknowledgement.join();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+    }
+
+    @Test
+    void shouldFailTheSameMessagesWhateverTheOrderOfConcurrentPublishes() throws InterruptedException {
+        // Given
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            payloads.add("{\"n\":" + i + "}");
+        }
+        List<String> reversed = new ArrayList<>(payloads);
+        Collections.reverse(reversed);
+
+        // When
+        Set<String> failedInOrder = failedPublishes(payloads);
+        Set<String> failedInReverse = failedPublishes(reversed);
+
+        // Then
+        assertEquals(failedInOrder, failedInReverse);
+        assertFalse(failedInOrder.isEmpty());
+        assertTrue(failedInOrder.size() < payloads.size());
+    }
+
+    @Test
+    void shouldCountAttemptsSeparatelyForPayloadsWithEqualHashCodes() {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 1.0, 0, 100, 42);
+        byte[] first = {0, 31};
+        byte[] second = {1, 0};
+        assertEquals(Arrays.hashCode(first), Arrays.hashCode(second));
+
+        // When
+        assertThrows(SimulatedBrokerPublisher.BrokerException.class,
+            () -> broker.publish(TOPIC, new EncodedPayload(first, "application/octet-stream", EncodedPayload.IDENTITY)));
+        assertThrows(SimulatedBrokerPublisher.BrokerException.class,
+            () -> broker.publish(TOPIC, new EncodedPayload(second, "application/octet-stream", EncodedPayload.IDENTITY)));
+
+        // Then
+        assertEquals(2, broker.trackedMessages());
+    }
+
+    @Test
+    void shouldStopTrackingAttemptsOnceMessageIsAccepted() {
+        // Given
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 0.0, 0, 100, 42);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            broker.publish(TOPIC, "{\"n\":" + i + "}");
+        }
+
+        // Then
+        assertEquals(0, broker.trackedMessages());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        broker = new SimulatedBrokerPublisher("fixed", 0, 0, 0.0, 0, 1, 42);
+        assertThrows(IllegalArgumentException.class,
+            () -> new SimulatedBrokerPublisher("fixed", 0, 0, 1.5, 0, 1, 42));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SimulatedBrokerPublisher("fixed", 10, 5, 0.0, 0, 1, 42));
+    }
+
+    private Set<String> failedPublishes(List<String> payloads) throws InterruptedException {
+        if (broker != null) {
+            broker.shutdown();
+        }
+        broker = new SimulatedBrokerPublisher("uniform", 0, 1, 0.5, 0, 1000, 42);
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        ExecutorService publishers = Executors.newFixedThreadPool(8);
+        for (String payload : payloads) {
+            publishers.submit(() -> {
+                try {
+                    broker.publish(TOPIC, payload);
+                } catch (SimulatedBrokerPublisher.BrokerException e) {
+                    failed.add(payload);
+                }
+            });
+        }
+        publishers.shutdown();
+        assertTrue(publishers.awaitTermination(5, TimeUnit.SECONDS));
+        return failed;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderCursor;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.domain.port.in.OrderUseCase;
+import com.example.hexagonalorders.domain.port.out.StatusTransition;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderItemJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OrderJpaEntity;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the order read paths against N+1 item loading, and the write path against rewriting
+ * unchanged items, by counting the JDBC statements Hibernate prepares for each of them.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderRepositoryAdapterQueryCountTest {
+
+    private static final int ORDER_COUNT = OrderRepositoryAdapter.STREAM_CHUNK_SIZE + 5;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 18, 10, 0);
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderUseCase orderUseCase;
+
+    @Autowired
+    private OutboxMessageJpaRepository outboxJpaRepository;
+
+    private Statistics statistics;
+    private final List<Order> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            saved.add(orderRepositoryAdapter.save(order(i)));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderJpaRepository.deleteAll();
+    }
+
+    @Test
+    void findByOrderNumber_ShouldLoadOrderAndItemsInOneQuery() {
+        // Act
+        Order order = orderRepositoryAdapter.findByOrderNumber(saved.get(0).getOrderNumber()).orElseThrow();
+
+        // Assert
+        assertEquals(2, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByOrderNumbers_ShouldLoadAllOrdersAndItemsInOneQuery() {
+        // Arrange
+        List<OrderNumber> orderNumbers = saved.stream().limit(20).map(Order::getOrderNumber).collect(Collectors.toList());
+
+        // Act
+        List<Order> orders = orderRepositoryAdapter.findByOrderNumbers(orderNumbers);
+
+        // Assert
+        assertEquals(20, orders.size());
+        orders.forEach(order -> assertEquals(2, order.getItems().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPage_ShouldUseTwoQueriesPerPage() {
+        // Act
+        List<Order> first = orderRepositoryAdapter.findPage(null, 50);
+        List<Order> second = orderRepositoryAdapter.findPage(OrderCursor.of(first.get(49)), 50);
+
+        // Assert
+        assertEquals(50, first.size());
+        assertEquals(50, second.size());
+        second.forEach(order -> assertEquals(2, order.getItems().size()));
+        assertEquals(saved.get(50).getOrderNumber(), second.get(0).getOrderNumber());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAll_ShouldUseOneQueryPerChunk() {
+        // Act
+        List<Order> orders = transactionTemplate.execute(status -> {
+            try (Stream<Order> stream = orderRepositoryAdapter.streamAll()) {
+                return stream.collect(Collectors.toList());
+            }
+        });
+
+        // Assert
+        assertNotNull(orders);
+        assertEquals(ORDER_COUNT, orders.size());
+        orders.forEach(order -> assertEquals(2, order.getItems().size()));
+        // One query for the IDs plus one per chunk of orders
+        assertEquals(1 + 2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void save_ShouldConfirmLargeOrderWithSingleUpdate() {
+        // Arrange
+        Order large = orderRepositoryAdapter.save(largeOrder("ORD-LARGE", 200));
+        statistics.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepositoryAdapter.findByOrderNumber(large.getOrderNumber()).orElseThrow();
+            order.confirm(order.getId());
+            orderRepositoryAdapter.save(order);
+        });
+
+        // Assert
+        EntityStatistics orders = statistics.getEntityStatistics(OrderJpaEntity.class.getName());
+        EntityStatistics items = statistics.getEntityStatistics(OrderItemJpaEntity.class.getName());
+        assertEquals(1, orders.getUpdateCount());
+        assertEquals(0, items.getInsertCount() + items.getUpdateCount() + items.getDeleteCount());
+        // One query loading the order with its items, one UPDATE
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(OrderStatus.CONFIRMED,
+            orderRepositoryAdapter.findByOrderNumber(large.getOrderNumber()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void confirmIfPending_ShouldConfirmWithSingleStatement() {
+        // Arrange
+        OrderNumber orderNumber = saved.get(0).getOrderNumber();
+
+        // Act
+        StatusTransition transition = orderRepositoryAdapter.confirmIfPending(orderNumber);
+
+        // Assert
+        assertEquals(StatusTransition.APPLIED, transition);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(OrderStatus.CONFIRMED, orderRepositoryAdapter.findByOrderNumber(orderNumber).orElseThrow().getStatus());
+    }
+
+    @Test
+    void confirmIfPending_ShouldTellMissingAndNonPendingOrdersApart() {
+        // Arrange
+        OrderNumber orderNumber = saved.get(0).getOrderNumber();
+        orderRepositoryAdapter.confirmIfPending(orderNumber);
+
+        // Act & Assert
+        assertEquals(StatusTransition.INVALID_STATE, orderRepositoryAdapter.confirmIfPending(orderNumber));
+        assertEquals(StatusTransition.NOT_FOUND, orderRepositoryAdapter.confirmIfPending(new OrderNumber("ORD-MISSING")));
+    }
+
+    @Test
+    void confirmAllIfPending_ShouldConfirmWithOneLockingQueryAndOneUpdate() {
+        // Arrange
+        OrderNumber alreadyConfirmed = saved.get(0).getOrderNumber();
+        orderRepositoryAdapter.confirmIfPending(alreadyConfirmed);
+        List<OrderNumber> pending = saved.subList(1, ORDER_COUNT).stream()
+                .map(Order::getOrderNumber)
+                .collect(Collectors.toList());
+        List<OrderNumber> orderNumbers = new ArrayList<>(pending);
+        orderNumbers.add(0, alreadyConfirmed);
+        orderNumbers.add(new OrderNumber("ORD-MISSING"));
+        orderNumbers.add(pending.get(0));
+        statistics.clear();
+
+        // Act
+        Map<OrderNumber, StatusTransition> transitions = orderRepositoryAdapter.confirmAllIfPending(orderNumbers);
+
+        // Assert
+        // One SELECT ... FOR UPDATE of the statuses, one UPDATE of all pending orders
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(ORDER_COUNT + 1, transitions.size());
+        assertEquals(alreadyConfirmed, transitions.keySet().iterator().next());
+        assertEquals(StatusTransition.INVALID_STATE, transitions.get(alreadyConfirmed));
+        assertEquals(StatusTransition.NOT_FOUND, transitions.get(new OrderNumber("ORD-MISSING")));
+        pending.forEach(orderNumber -> assertEquals(StatusTransition.APPLIED, transitions.get(orderNumber)));
+        assertTrue(orderRepositoryAdapter.findByOrderNumbers(pending).stream()
+                .allMatch(order -> order.getStatus() == OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void confirmOrders_ShouldInsertOutboxMessagesInBatches() {
+        // Arrange
+        List<OrderNumber> orderNumbers = saved.stream()
+                .map(Order::getOrderNumber)
+                .collect(Collectors.toList());
+
+        // Act
+        // Counted before commit, so the dispatch that follows the commit is not included
+        long statements = transactionTemplate.execute(status -> {
+            orderUseCase.confirmOrders(orderNumbers);
+            entityManager.flush();
+            return statistics.getPrepareStatementCount();
+        });
+
+        // Assert
+        EntityStatistics outbox = statistics.getEntityStatistics(OutboxJpaEntity.class.getName());
+        assertEquals(ORDER_COUNT, outbox.getInsertCount());
+        // Outbox messages are persisted without reading them first, and their inserts are batched
+        assertTrue(statements < ORDER_COUNT / 2, "Expected batched inserts but prepared " + statements + " statements");
+        outboxJpaRepository.deleteAll();
+    }
+
+    @Test
+    void save_ShouldOnlyWriteChangedItems() {
+        // Arrange
+        Order large = orderRepositoryAdapter.save(largeOrder("ORD-LARGE", 200));
+        List<OrderItem> items = new ArrayList<>(large.getItems());
+        items.remove(0);
+        items.set(0, new OrderItem(items.get(0).getProductNumber(), new Quantity(9), items.get(0).getUnitPrice()));
+        items.add(new OrderItem(new ProductNumber("PROD-NEW"), new Quantity(1), new BigDecimal("1.00")));
+        Order changed = new Order(large.getId(), large.getOrderNumber(), large.getCustomerId(), large.getOrderDate(),
+            items, large.getShippingAddress(), large.getStatus());
+        statistics.clear();
+
+        // Act
+        orderRepositoryAdapter.save(changed);
+
+        // Assert
+        EntityStatistics itemStatistics = statistics.getEntityStatistics(OrderItemJpaEntity.class.getName());
+        assertEquals(1, itemStatistics.getInsertCount());
+        assertEquals(1, itemStatistics.getUpdateCount());
+        assertEquals(1, itemStatistics.getDeleteCount());
+        assertEquals(0, statistics.getEntityStatistics(OrderJpaEntity.class.getName()).getUpdateCount());
+        Order reloaded = orderRepositoryAdapter.findByOrderNumber(large.getOrderNumber()).orElseThrow();
+        assertEquals(200, reloaded.getItems().size());
+    }
+
+    private Order largeOrder(String orderNumber, int lines) {
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(new OrderItem(new ProductNumber("PROD-" + i), new Quantity(1), new BigDecimal("9.99")));
+        }
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(new OrderNumber(orderNumber), "CUST-001", START, items, shippingAddress, OrderStatus.PENDING);
+    }
+
+    private Order order(int index) {
+        List<OrderItem> items = List.of(
+            new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")),
+            new OrderItem(new ProductNumber("PROD-002"), new Quantity(2), new BigDecimal("19.99"))
+        );
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(new OrderNumber("ORD-" + index), "CUST-001", START.plusMinutes(index),
+            items, shippingAddress, OrderStatus.PENDING);
+    }
+}
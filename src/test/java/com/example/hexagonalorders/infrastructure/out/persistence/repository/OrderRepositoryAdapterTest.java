@@ -0,0 +1,90 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Optimistic locking of orders. Not transactional, so that every adapter call commits on its own
+ * the way concurrent requests would.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderRepositoryAdapterTest {
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderJpaRepository.deleteAll();
+    }
+
+    @Test
+    void save_ShouldIncrementVersion() {
+        // Given
+        Order saved = orderRepositoryAdapter.save(order("ORD-001"));
+        Order loaded = orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow();
+
+        // When
+        loaded.confirm(loaded.getId());
+        orderRepositoryAdapter.save(loaded);
+
+        // Then
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1L, orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void save_ShouldRejectStaleOrder() {
+        // Given
+        Order saved = orderRepositoryAdapter.save(order("ORD-001"));
+        Order first = orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow();
+        Order second = orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow();
+        first.confirm(first.getId());
+        orderRepositoryAdapter.save(first);
+
+        // When & Then
+        second.confirm(second.getId());
+        assertThrows(OptimisticLockingFailureException.class, () -> orderRepositoryAdapter.save(second));
+    }
+
+    @Test
+    void confirmIfPending_ShouldIncrementVersion() {
+        // Given
+        Order saved = orderRepositoryAdapter.save(order("ORD-001"));
+        Order stale = orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow();
+
+        // When
+        orderRepositoryAdapter.confirmIfPending(saved.getOrderNumber());
+
+        // Then
+        assertEquals(1L, orderRepositoryAdapter.findByOrderNumber(saved.getOrderNumber()).orElseThrow().getVersion());
+        assertThrows(OptimisticLockingFailureException.class, () -> orderRepositoryAdapter.save(stale));
+    }
+
+    private Order order(String orderNumber) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(new OrderNumber(orderNumber), "CUST-001", LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+}
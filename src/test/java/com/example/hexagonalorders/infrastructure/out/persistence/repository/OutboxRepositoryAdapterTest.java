@@ -0,0 +1,401 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.domain.model.OutboxBacklog;
+import com.example.hexagonalorders.domain.model.OutboxMessage;
+import com.example.hexagonalorders.domain.model.OutboxStatus;
+import com.example.hexagonalorders.domain.port.out.OutboxRepository;
+import com.example.hexagonalorders.domain.port.out.ScheduledRetry;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OutboxRepositoryAdapterTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private OutboxMessageJpaRepository outboxJpaRepository;
+
+    @Test
+    void markProcessed_ShouldUpdateAllMessagesInOneCall() {
+        // Given
+        OutboxMessage first = outboxRepository.save(pendingMessage());
+        OutboxMessage second = outboxRepository.save(pendingMessage());
+        OutboxMessage untouched = outboxRepository.save(pendingMessage());
+
+        // When
+        int updated = outboxRepository.markProcessed(List.of(first.id(), second.id()));
+
+        // Then
+        assertEquals(2, updated);
+        assertStatus(first.id(), OutboxJpaEntity.OutboxStatusJpa.PROCESSED);
+        assertStatus(second.id(), OutboxJpaEntity.OutboxStatusJpa.PROCESSED);
+        assertStatus(untouched.id(), OutboxJpaEntity.OutboxStatusJpa.PENDING);
+        assertNotNull(outboxJpaRepository.findById(first.id()).orElseThrow().getProcessedAt());
+    }
+
+    @Test
+    void scheduleRetry_ShouldReturnMessageToPendingUntilDue() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // When
+        outboxRepository.scheduleRetries(List.of(new ScheduledRetry(message.id(), "broker unavailable", Instant.now().plusSeconds(60))));
+
+        // Then
+        OutboxJpaEntity entity = outboxJpaRepository.findById(message.id()).orElseThrow();
+        assertEquals(OutboxJpaEntity.OutboxStatusJpa.PENDING, entity.getStatus());
+        assertEquals(1, entity.getAttempts());
+        assertEquals("broker unavailable", entity.getLastError());
+        assertNull(entity.getLockedBy());
+        assertTrue(outboxRepository.findPending(10).isEmpty(), "Message should not be due yet");
+        assertTrue(outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1)).isEmpty());
+    }
+
+    @Test
+    void scheduleRetry_ShouldMakeMessageClaimableOnceDue() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+        outboxRepository.scheduleRetries(List.of(new ScheduledRetry(message.id(), "broker unavailable", Instant.now().minusSeconds(1))));
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(1, claimed.size());
+        assertEquals(1, claimed.get(0).attempts());
+        assertEquals("broker unavailable", claimed.get(0).lastError());
+    }
+
+    @Test
+    void release_ShouldReturnMessageToPendingWithoutCountingAnAttempt() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // When
+        outboxRepository.release(List.of(message.id()));
+
+        // Then
+        OutboxJpaEntity entity = outboxJpaRepository.findById(message.id()).orElseThrow();
+        assertEquals(OutboxJpaEntity.OutboxStatusJpa.PENDING, entity.getStatus());
+        assertEquals(0, entity.getAttempts());
+        assertNull(entity.getLockedBy());
+        assertEquals(entity.getCreatedAt(), entity.getNextAttemptAt());
+        assertEquals(1, outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1)).size());
+    }
+
+    @Test
+    void claimPending_ShouldHoldBackMessagesBehindAnOlderOneAwaitingRetry() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        Instant createdAt = Instant.now().minusSeconds(10);
+        OutboxMessage failed = outboxRepository.save(pendingMessage(aggregateId, createdAt));
+        OutboxMessage later = outboxRepository.save(pendingMessage(aggregateId, createdAt.plusSeconds(1)));
+        OutboxMessage other = outboxRepository.save(pendingMessage());
+        outboxRepository.scheduleRetries(List.of(new ScheduledRetry(failed.id(), "broker unavailable", Instant.now().plusSeconds(60))));
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(List.of(other.id()), claimed.stream().map(OutboxMessage::id).toList());
+        assertStatus(later.id(), OutboxJpaEntity.OutboxStatusJpa.PENDING);
+    }
+
+    @Test
+    void claimPending_ShouldHoldBackMessagesBehindAnOlderLeasedOne() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        Instant createdAt = Instant.now().minusSeconds(10);
+        outboxRepository.save(pendingMessage(aggregateId, createdAt));
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+        outboxRepository.save(pendingMessage(aggregateId, createdAt.plusSeconds(1)));
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertTrue(claimed.isEmpty());
+    }
+
+    @Test
+    void claimPending_ShouldClaimReleasedMessagesInCreationOrderOnceTheirPredecessorIsDelivered() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        Instant createdAt = Instant.now().minusSeconds(10);
+        OutboxMessage first = outboxRepository.save(pendingMessage(aggregateId, createdAt));
+        OutboxMessage second = outboxRepository.save(pendingMessage(aggregateId, createdAt.plusSeconds(1)));
+        OutboxMessage third = outboxRepository.save(pendingMessage(aggregateId, createdAt.plusSeconds(2)));
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+        // The first message failed; the others were skipped
+        outboxRepository.scheduleRetries(List.of(new ScheduledRetry(first.id(), "broker unavailable", Instant.now().minusSeconds(1))));
+        outboxRepository.release(List.of(third.id(), second.id()));
+
+        // When
+        List<OutboxMessage> retried = outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1));
+        outboxRepository.markProcessed(List.of(first.id()));
+        List<OutboxMessage> released = outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(List.of(first.id()), retried.stream().map(OutboxMessage::id).toList());
+        assertEquals(List.of(second.id(), third.id()), released.stream().map(OutboxMessage::id).toList());
+        assertTrue(released.stream().allMatch(message -> message.attempts() == 0));
+    }
+
+    @Test
+    void claimPending_ShouldNotHoldBackMessagesBehindADeadLetter() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        Instant createdAt = Instant.now().minusSeconds(10);
+        OutboxMessage deadLetter = outboxRepository.save(pendingMessage(aggregateId, createdAt));
+        OutboxMessage later = outboxRepository.save(pendingMessage(aggregateId, createdAt.plusSeconds(1)));
+        outboxRepository.markDeadLetter(List.of(deadLetter.id()), "payload rejected");
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(List.of(later.id()), claimed.stream().map(OutboxMessage::id).toList());
+    }
+
+    @Test
+    void scheduleRetries_ShouldRescheduleEachMessageAtItsOwnTime() {
+        // Given
+        OutboxMessage first = outboxRepository.save(pendingMessage());
+        OutboxMessage second = outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+        Instant firstDue = Instant.now().plusSeconds(30).truncatedTo(ChronoUnit.MILLIS);
+        Instant secondDue = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+
+        // When
+        outboxRepository.scheduleRetries(List.of(
+            new ScheduledRetry(first.id(), "broker unavailable", firstDue),
+            new ScheduledRetry(second.id(), "timed out", secondDue)));
+
+        // Then
+        OutboxJpaEntity firstEntity = outboxJpaRepository.findById(first.id()).orElseThrow();
+        assertEquals(OutboxJpaEntity.OutboxStatusJpa.PENDING, firstEntity.getStatus());
+        assertEquals(1, firstEntity.getAttempts());
+        assertEquals(firstDue, firstEntity.getNextAttemptAt());
+        assertEquals("broker unavailable", firstEntity.getLastError());
+        assertNull(firstEntity.getLockedBy());
+        OutboxJpaEntity secondEntity = outboxJpaRepository.findById(second.id()).orElseThrow();
+        assertEquals(secondDue, secondEntity.getNextAttemptAt());
+        assertEquals("timed out", secondEntity.getLastError());
+    }
+
+    @Test
+    void markDeadLetter_ShouldMoveAllMessagesInOneCall() {
+        // Given
+        OutboxMessage first = outboxRepository.save(pendingMessage());
+        OutboxMessage second = outboxRepository.save(pendingMessage());
+        OutboxMessage untouched = outboxRepository.save(pendingMessage());
+
+        // When
+        outboxRepository.markDeadLetter(List.of(first.id(), second.id()), "payload rejected");
+
+        // Then
+        assertStatus(first.id(), OutboxJpaEntity.OutboxStatusJpa.DEAD_LETTER);
+        assertStatus(second.id(), OutboxJpaEntity.OutboxStatusJpa.DEAD_LETTER);
+        assertStatus(untouched.id(), OutboxJpaEntity.OutboxStatusJpa.PENDING);
+        assertEquals("payload rejected", outboxJpaRepository.findById(second.id()).orElseThrow().getLastError());
+    }
+
+    @Test
+    void markDeadLetter_ShouldTakeMessageOutOfDelivery() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+
+        // When
+        outboxRepository.markDeadLetter(List.of(message.id()), "payload rejected");
+
+        // Then
+        OutboxJpaEntity entity = outboxJpaRepository.findById(message.id()).orElseThrow();
+        assertEquals(OutboxJpaEntity.OutboxStatusJpa.DEAD_LETTER, entity.getStatus());
+        assertEquals(1, entity.getAttempts());
+        assertEquals("payload rejected", entity.getLastError());
+        assertTrue(outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1)).isEmpty());
+    }
+
+    @Test
+    void markProcessed_WithEmptyCollection_ShouldDoNothing() {
+        assertEquals(0, outboxRepository.markProcessed(List.of()));
+    }
+
+    @Test
+    void claimPending_ShouldLeaseMessagesToOwner() {
+        // Given
+        OutboxMessage first = outboxRepository.save(pendingMessage());
+        OutboxMessage second = outboxRepository.save(pendingMessage());
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(2, claimed.size());
+        assertTrue(claimed.stream().allMatch(message -> message.status() == OutboxStatus.IN_FLIGHT));
+        OutboxJpaEntity entity = outboxJpaRepository.findById(first.id()).orElseThrow();
+        assertEquals("node-a", entity.getLockedBy());
+        assertNotNull(entity.getLockedUntil());
+        assertStatus(second.id(), OutboxJpaEntity.OutboxStatusJpa.IN_FLIGHT);
+    }
+
+    @Test
+    void claimPending_ShouldNotReturnMessagesLeasedToAnotherOwner() {
+        // Given
+        outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertTrue(claimed.isEmpty());
+    }
+
+    @Test
+    void claimPending_ShouldReclaimMessagesWithExpiredLease() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("crashed-node", 10, Duration.ofMillis(-1));
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimPending("node-b", 10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(1, claimed.size());
+        assertEquals(message.id(), claimed.get(0).id());
+        assertEquals("node-b", outboxJpaRepository.findById(message.id()).orElseThrow().getLockedBy());
+    }
+
+    @Test
+    void markProcessed_ShouldReleaseLease() {
+        // Given
+        OutboxMessage message = outboxRepository.save(pendingMessage());
+        outboxRepository.claimPending("node-a", 10, Duration.ofMinutes(1));
+
+        // When
+        outboxRepository.markProcessed(List.of(message.id()));
+
+        // Then
+        OutboxJpaEntity entity = outboxJpaRepository.findById(message.id()).orElseThrow();
+        assertEquals(OutboxJpaEntity.OutboxStatusJpa.PROCESSED, entity.getStatus());
+        assertNull(entity.getLockedBy());
+        assertNull(entity.getLockedUntil());
+    }
+
+    @Test
+    void deleteProcessedBefore_ShouldDeleteOnlyExpiredMessagesOfStatus() throws InterruptedException {
+        // Given
+        OutboxMessage expired = outboxRepository.save(pendingMessage());
+        OutboxMessage deadLetter = outboxRepository.save(pendingMessage());
+        OutboxMessage pending = outboxRepository.save(pendingMessage());
+        outboxRepository.markProcessed(List.of(expired.id()));
+        outboxRepository.markDeadLetter(List.of(deadLetter.id()), "broker down");
+        Thread.sleep(5);
+        Instant cutoff = Instant.now();
+        Thread.sleep(5);
+        OutboxMessage recent = outboxRepository.save(pendingMessage());
+        outboxRepository.markProcessed(List.of(recent.id()));
+
+        // When
+        outboxRepository.deleteProcessedBefore(OutboxStatus.PROCESSED, cutoff, 100);
+
+        // Then
+        assertTrue(outboxJpaRepository.findById(expired.id()).isEmpty());
+        assertTrue(outboxJpaRepository.findById(deadLetter.id()).isPresent());
+        assertTrue(outboxJpaRepository.findById(pending.id()).isPresent());
+        assertTrue(outboxJpaRepository.findById(recent.id()).isPresent());
+    }
+
+    @Test
+    void deleteProcessedBefore_ShouldDeleteAtMostLimit() {
+        // Given
+        OutboxMessage first = outboxRepository.save(pendingMessage());
+        OutboxMessage second = outboxRepository.save(pendingMessage());
+        outboxRepository.markDeadLetter(List.of(first.id()), "broker down");
+        outboxRepository.markDeadLetter(List.of(second.id()), "broker down");
+
+        // When
+        int deleted = outboxRepository.deleteProcessedBefore(OutboxStatus.DEAD_LETTER, Instant.now().plusSeconds(1), 1);
+
+        // Then
+        assertEquals(1, deleted);
+    }
+
+    @Test
+    void deleteProcessedBefore_ShouldRejectNonTerminalStatus() {
+        // IllegalArgumentException is translated at the @Repository boundary
+        assertThrows(InvalidDataAccessApiUsageException.class,
+            () -> outboxRepository.deleteProcessedBefore(OutboxStatus.PENDING, Instant.now(), 10));
+    }
+
+    @Test
+    void summarizeBacklog_ShouldCountUndeliveredMessagesPerStatus() {
+        // Given
+        OutboxMessage pending = outboxRepository.save(pendingMessage());
+        OutboxMessage deadLetter = outboxRepository.save(pendingMessage());
+        OutboxMessage processed = outboxRepository.save(pendingMessage());
+        outboxRepository.markDeadLetter(List.of(deadLetter.id()), "broker down");
+        outboxRepository.markProcessed(List.of(processed.id()));
+
+        // When
+        List<OutboxBacklog> backlog = outboxRepository.summarizeBacklog();
+
+        // Then
+        OutboxBacklog pendingBacklog = backlog.stream()
+            .filter(entry -> entry.status() == OutboxStatus.PENDING)
+            .findFirst().orElseThrow();
+        assertEquals("Order", pendingBacklog.aggregateType());
+        assertEquals("OrderConfirmedIntegrationEvent", pendingBacklog.eventType());
+        assertTrue(pendingBacklog.count() >= 1);
+        // The database stores microseconds, so allow for rounding of the nanosecond timestamp
+        assertFalse(pendingBacklog.oldestCreatedAt().isAfter(pending.createdAt().plusMillis(1)));
+        assertTrue(backlog.stream().anyMatch(entry -> entry.status() == OutboxStatus.DEAD_LETTER));
+        assertTrue(backlog.stream().noneMatch(entry -> entry.status() == OutboxStatus.PROCESSED));
+    }
+
+    private void assertStatus(UUID id, OutboxJpaEntity.OutboxStatusJpa expected) {
+        assertEquals(expected, outboxJpaRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    private OutboxMessage pendingMessage() {
+        return OutboxMessage.createPendingMessage(
+            "Order",
+            UUID.randomUUID(),
+            "OrderConfirmedIntegrationEvent",
+            "{\"orderNumber\":\"ORD-001\"}"
+        );
+    }
+
+    private OutboxMessage pendingMessage(UUID aggregateId, Instant createdAt) {
+        return new OutboxMessage(
+            UUID.randomUUID(),
+            "Order",
+            aggregateId,
+            "OrderConfirmedIntegrationEvent",
+            "{\"orderNumber\":\"ORD-001\"}",
+            OutboxStatus.PENDING,
+            createdAt,
+            null
+        );
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.hexagonalorders.infrastructure.out.persistence.repository;
+
+import com.example.hexagonalorders.domain.model.Order;
+import com.example.hexagonalorders.domain.model.OrderItem;
+import com.example.hexagonalorders.domain.model.OrderStatus;
+import com.example.hexagonalorders.domain.model.valueobject.OrderNumber;
+import com.example.hexagonalorders.domain.model.valueobject.ProductNumber;
+import com.example.hexagonalorders.domain.model.valueobject.Quantity;
+import com.example.hexagonalorders.domain.model.valueobject.ShippingAddress;
+import com.example.hexagonalorders.infrastructure.out.persistence.entity.OutboxJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the SQL behind the hot-path repository methods is served by an index on the
+ * migrated schema. Each repository method is called for real; a Hibernate StatementInspector
+ * captures the statements it sends, and every one of them is EXPLAINed, so the plans follow
+ * the queries Hibernate actually generates.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.example.hexagonalorders.infrastructure.out.persistence.repository.RepositoryQueryPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final List<UUID> OUTBOX_IDS = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+
+    @Autowired
+    private OutboxMessageJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private OrderChangeJpaRepository orderChangeJpaRepository;
+
+    @Test
+    void orderFindByOrderNumber_ShouldUseUniqueAndItemIndexes() {
+        assertUsesIndexes(() -> orderJpaRepository.findByOrderNumber("ORD-001"),
+            "UK_ORDERS_ORDER_NUMBER", "IDX_ORDER_ITEMS_ORDER_ID");
+    }
+
+    @Test
+    void orderFindByOrderNumberIn_ShouldUseUniqueAndItemIndexes() {
+        assertUsesIndexes(() -> orderJpaRepository.findByOrderNumberIn(List.of("ORD-001", "ORD-002")),
+            "UK_ORDERS_ORDER_NUMBER", "IDX_ORDER_ITEMS_ORDER_ID");
+    }
+
+    @Test
+    void orderExistsByOrderNumber_ShouldUseUniqueIndex() {
+        assertUsesIndexes(() -> orderJpaRepository.existsByOrderNumber("ORD-001"), "UK_ORDERS_ORDER_NUMBER");
+    }
+
+    @Test
+    void orderDeleteByOrderNumber_ShouldUseUniqueIndexAndPrimaryKeys() {
+        assertUsesIndexes(() -> orderRepositoryAdapter.save(order("ORD-001")),
+            () -> orderJpaRepository.deleteByOrderNumber("ORD-001"),
+            "UK_ORDERS_ORDER_NUMBER", "PRIMARY_KEY");
+    }
+
+    @Test
+    void orderConfirmIfPending_ShouldUseUniqueIndex() {
+        assertUsesIndexes(() -> orderJpaRepository.confirmIfPending("ORD-001"), "UK_ORDERS_ORDER_NUMBER");
+    }
+
+    @Test
+    void orderConfirmAllIfPending_ShouldLockAndUpdateThroughUniqueIndex() {
+        assertUsesIndexes(() -> {
+            orderJpaRepository.lockStatusesByOrderNumberIn(List.of("ORD-001", "ORD-002"));
+            orderJpaRepository.confirmAllIfPending(List.of("ORD-001", "ORD-002"));
+        }, "UK_ORDERS_ORDER_NUMBER");
+    }
+
+    @Test
+    void orderFindFirstPageIds_ShouldUseOrderDateIdIndex() {
+        assertUsesIndexes(() -> orderJpaRepository.findFirstPageIds(PageRequest.of(0, 51)), "IDX_ORDERS_ORDER_DATE_ID");
+    }
+
+    @Test
+    void orderFindPageIdsAfter_ShouldSeekOnOrderDateIdIndex() {
+        assertUsesIndexes(() -> orderJpaRepository.findPageIdsAfter(LocalDateTime.now(), 123L, PageRequest.of(0, 51)),
+            "IDX_ORDERS_ORDER_DATE_ID");
+    }
+
+    @Test
+    void orderFindAllWithItemsByIdIn_ShouldUsePrimaryKeyAndItemIndex() {
+        assertUsesIndexes(() -> orderJpaRepository.findAllWithItemsByIdIn(List.of(1L, 2L)),
+            "PRIMARY_KEY", "IDX_ORDER_ITEMS_ORDER_ID");
+    }
+
+    @Test
+    void outboxFindPending_ShouldUseStatusNextAttemptIndex() {
+        assertUsesIndexes(() -> outboxJpaRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                OutboxJpaEntity.OutboxStatusJpa.PENDING, Instant.now(), PageRequest.of(0, 10)),
+            "IDX_OUTBOX_STATUS_NEXT_ATTEMPT");
+    }
+
+    @Test
+    void outboxFindClaimable_ShouldUseStatusNextAttemptAndAggregateIndexes() {
+        assertUsesIndexes(() -> outboxJpaRepository.findClaimable(Instant.now(), PageRequest.of(0, 10)),
+            "IDX_OUTBOX_STATUS_NEXT_ATTEMPT", "IDX_OUTBOX_IDEMPOTENCY");
+    }
+
+    @Test
+    void outboxClaim_ShouldUsePrimaryKey() {
+        assertUsesIndexes(() -> {
+            Instant lockedUntil = Instant.now().plusSeconds(30);
+            outboxJpaRepository.claim(OUTBOX_IDS, "node-a", lockedUntil, Instant.now());
+            outboxJpaRepository.findByIdInAndLockedByAndLockedUntilOrderByCreatedAtAsc(OUTBOX_IDS, "node-a", lockedUntil);
+        }, "PRIMARY_KEY");
+    }
+
+    @Test
+    void outboxStatusUpdates_ShouldUsePrimaryKey() {
+        assertUsesIndexes(() -> {
+            outboxJpaRepository.updateStatus(OUTBOX_IDS, OutboxJpaEntity.OutboxStatusJpa.PROCESSED, Instant.now());
+            outboxJpaRepository.release(OUTBOX_IDS);
+            outboxJpaRepository.markDeadLetter(OUTBOX_IDS, Instant.now(), "broker down");
+            outboxJpaRepository.deleteByIds(OUTBOX_IDS);
+        }, "PRIMARY_KEY");
+    }
+
+    @Test
+    void outboxFindIdsProcessedBefore_ShouldUseStatusProcessedAtIndex() {
+        assertUsesIndexes(() -> outboxJpaRepository.findIdsProcessedBefore(
+                OutboxJpaEntity.OutboxStatusJpa.PROCESSED, Instant.now(), PageRequest.of(0, 1000)),
+            "IDX_OUTBOX_STATUS_PROCESSED_AT");
+    }
+
+    @Test
+    void orderChanges_ShouldUseChangedAtIndex() {
+        assertUsesIndexes(() -> {
+            orderChangeJpaRepository.findByChangedAtAfterOrderByChangedAtAsc(Instant.now());
+            orderChangeJpaRepository.deleteChangedBefore(Instant.now());
+        }, "IDX_ORDER_CHANGES_CHANGED_AT");
+    }
+
+    private void assertUsesIndexes(Runnable repositoryCall, String... indexNames) {
+        assertUsesIndexes(() -> { }, repositoryCall, indexNames);
+    }
+
+    /**
+     * Runs the repository call in a transaction that is rolled back, and checks that none of the
+     * statements it sent scans a table and that together they use every named index.
+     */
+    private void assertUsesIndexes(Runnable setUp, Runnable repositoryCall, String... indexNames) {
+        List<String> statements = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            setUp.run();
+            entityManager.flush();
+            entityManager.clear();
+            CapturingStatementInspector.start();
+            try {
+                repositoryCall.run();
+                entityManager.flush();
+                return CapturingStatementInspector.captured();
+            } finally {
+                CapturingStatementInspector.stop();
+            }
+        });
+        assertNotNull(statements);
+        assertFalse(statements.isEmpty(), "The repository call sent no statement");
+
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan in plan:\n" + plan);
+            plans.append(plan).append('\n');
+        }
+        for (String indexName : indexNames) {
+            assertTrue(plans.toString().toUpperCase().contains(indexName),
+                () -> "Expected index " + indexName + " in plans:\n" + plans);
+        }
+    }
+
+    private String explain(String sql) {
+        // H2 plans a statement without values for its parameters
+        String plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+            result -> result.next() ? result.getString(1) : null);
+        assertNotNull(plan, () -> "No plan for " + sql);
+        return plan;
+    }
+
+    private static Order order(String orderNumber) {
+        List<OrderItem> items = List.of(new OrderItem(new ProductNumber("PROD-001"), new Quantity(1), new BigDecimal("9.99")));
+        ShippingAddress shippingAddress = new ShippingAddress("123 Main St", "City", "State", "12345", "Country");
+        return new Order(new OrderNumber(orderNumber), "CUST-001", LocalDateTime.now(), items, shippingAddress, OrderStatus.PENDING);
+    }
+
+    /**
+     * Records the SQL Hibernate sends on the current thread while capturing is started.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<String> captured() {
+            return List.copyOf(CAPTURED.get());
+        }
+
+        static void stop() {
+            CAPTURED.remove();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hexagonalorders.infrastructure.out.serialization;
+
+import com.example.hexagonalorders.domain.model.EncodedPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteJsonWithoutCompressionBelowThreshold() {
+        // Given
+        JacksonPayloadCodec codec = new JacksonPayloadCodec(objectMapper, "json", 1024);
+
+        // When
+        EncodedPayload payload = codec.encode(new TestEvent("ORD-001", 3));
+
+        // Then
+        assertEquals(EncodedPayload.JSON, payload.contentType());
+        assertEquals(EncodedPayload.IDENTITY, payload.contentEncoding());
+        assertEquals("{\"orderNumber\":\"ORD-001\",\"quantity\":3}", payload.text());
+    }
+
+    @Test
+    void shouldCompressPayloadsAboveThreshold() {
+        // Given
+        JacksonPayloadCodec codec = new JacksonPayloadCodec(objectMapper, "json", 16);
+        TestEvent event = new TestEvent("ORD-" + "0".repeat(200), 3);
+
+        // When
+        EncodedPayload payload = codec.encode(event);
+
+        // Then
+        assertEquals(EncodedPayload.GZIP, payload.contentEncoding());
+        assertTrue(payload.data().length < payload.content().length);
+        assertEquals(event, codec.decode(payload, TestEvent.class));
+    }
+
+    @Test
+    void shouldRoundTripBinaryFormats() {
+        for (String format : new String[] {"smile", "cbor"}) {
+            // Given
+            JacksonPayloadCodec codec = new JacksonPayloadCodec(objectMapper, format, 0);
+            TestEvent event = new TestEvent("ORD-001", 3);
+
+            // When
+            EncodedPayload payload = codec.encode(event);
+
+            // Then
+            assertNotEquals(EncodedPayload.JSON, payload.contentType());
+            assertEquals(event, codec.decode(payload, TestEvent.class));
+            assertThrows(IllegalStateException.class, payload::text);
+        }
+    }
+
+    @Test
+    void shouldDecodePayloadsWrittenInAnotherFormat() {
+        // Given
+        JacksonPayloadCodec smileCodec = new JacksonPayloadCodec(objectMapper, "smile", 0);
+        JacksonPayloadCodec jsonCodec = new JacksonPayloadCodec(objectMapper, "json", 0);
+        TestEvent event = new TestEvent("ORD-001", 3);
+
+        // When & Then
+        assertEquals(event, jsonCodec.decode(smileCodec.encode(event), TestEvent.class));
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> new JacksonPayloadCodec(objectMapper, "xml", 0));
+    }
+
+    record TestEvent(String orderNumber, int quantity) {}
+}